@@ -0,0 +1,77 @@
+package com.reliaquest.api.controller;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * The servlet API (Tomcat, one thread per request) side by side with the reactive one (Netty event loops and WebClient)
+ * against the same slow mock server. Each invocation sends a burst of concurrent requests for employees that are not
+ * cached, so every one waits on an upstream round trip, and completes once all are answered: the sampled time is the
+ * latency of the whole burst, and concurrency divided by it the throughput.
+ *
+ * Needs the three servers running first, the mock answering every lookup after a fixed 100 ms and without a rate limit
+ * (on Java 21 with virtual threads, so the mock's own sleeping threads are not the limit):
+ *
+ *   ./gradlew server:bootRun -PjavaVersion=21 --args='--spring.threads.virtual.enabled=true
+ *       --mock.rate-limit.enabled=false --mock.faults.enabled=true --mock.faults.rules[0].path=/api/v1/employee/*
+ *       --mock.faults.rules[0].latency.distribution=FIXED --mock.faults.rules[0].latency.delay=100ms'
+ *   ./gradlew api:bootRun --args='--api.employee.http.max-connections=2000'
+ *   ./gradlew api:bootRun --args='--spring.profiles.active=reactive --server.port=8113'
+ *
+ *   ./gradlew api:jmh -Pjmh.includes=EmployeeApiStackBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmployeeApiStackBenchmark {
+
+    @Param({"http://localhost:8111", "http://localhost:8113"})
+    private String api;
+
+    @Param({"100", "1000"})
+    private int concurrency;
+
+    private HttpClient client;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    }
+
+    @Benchmark
+    public int burst() {
+        final List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            // A new id every time, so each request misses the cache and calls upstream
+            final var request = HttpRequest.newBuilder(URI.create(api + "/api/v1/employees/" + UUID.randomUUID()))
+                    .timeout(Duration.ofSeconds(60))
+                    .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        int failed = 0;
+        for (final var response : responses) {
+            // The mock has none of these ids, so 404 is the expected answer
+            if (response.join().statusCode() != 404) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+}
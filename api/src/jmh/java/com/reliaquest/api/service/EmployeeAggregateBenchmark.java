@@ -0,0 +1,96 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.response.EmployeeResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Aggregates over every employee: the stream pipelines over EmployeeResponse objects the service used, with the
+ * boxing of map(EmployeeResponse::getSalary).max(Integer::compareTo), versus primitive loops over EmployeeColumns.
+ * The gc profiler's gc.alloc.rate.norm shows what each aggregate allocates.
+ *
+ *   ./gradlew api:jmh -Pjmh.includes=EmployeeAggregateBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeAggregateBenchmark {
+
+    private static final String[] TITLES = {
+        "Engineer", "Senior Engineer", "Engineering Manager", "Product Manager", "Designer", "Analyst", "Architect"
+    };
+
+    @Param({"10000", "1000000"})
+    private int employees;
+
+    private List<EmployeeResponse> snapshot;
+    private EmployeeColumns columns;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new Random(42);
+        snapshot = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            snapshot.add(new EmployeeResponse(
+                    UUID.randomUUID(),
+                    "Employee " + i,
+                    30_000 + random.nextInt(200_000),
+                    18 + random.nextInt(50),
+                    TITLES[random.nextInt(TITLES.length)],
+                    "e@company.com"));
+        }
+        columns = EmployeeColumns.of(snapshot);
+    }
+
+    @Benchmark
+    public Integer highestSalaryStream() {
+        return snapshot.stream()
+                .map(EmployeeResponse::getSalary)
+                .max(Integer::compareTo)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int highestSalaryColumns() {
+        return columns.highestSalary();
+    }
+
+    @Benchmark
+    public double averageAgeStream() {
+        return snapshot.stream().mapToInt(EmployeeResponse::getAge).average().orElse(0);
+    }
+
+    @Benchmark
+    public double averageAgeColumns() {
+        return (double) columns.totalAge() / columns.size();
+    }
+
+    @Benchmark
+    public Map<String, Long> headcountByTitleStream() {
+        return snapshot.stream().collect(Collectors.groupingBy(EmployeeResponse::getTitle, Collectors.counting()));
+    }
+
+    @Benchmark
+    public int[] headcountByTitleColumns() {
+        return columns.headcountByTitle();
+    }
+
+    @Benchmark
+    public EmployeeColumns build() {
+        return EmployeeColumns.of(snapshot);
+    }
+}
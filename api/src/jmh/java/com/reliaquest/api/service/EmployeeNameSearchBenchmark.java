@@ -0,0 +1,74 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.response.EmployeeResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Cost of one uncached name search: the lowercase-and-contains scan EmployeeService used to run over the whole list,
+ * versus the trigram index. Of the generated names, "ann" matches about a fifth, "kowalsk" one in twenty and
+ * "novak-1z" only a handful.
+ *
+ *   ./gradlew api:jmh -Pjmh.includes=EmployeeNameSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeNameSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+        "Anna", "Joanne", "Hannah", "John", "Maria", "Liam", "Olivia", "Noah", "Emma", "Lucas", "Sofia", "Mateo",
+        "Amelia", "Ethan", "Mia", "Leo", "Chloe", "Arjun", "Yuki", "Fatima", "Diego", "Ingrid", "Kwame", "Zoe"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Brennan", "Kowalski", "Garcia", "Nguyen", "Okafor", "Schmidt", "Rossi", "Tanaka",
+        "Hernandez", "Novak", "Larsen", "Dubois", "Silva", "Kim", "Petrov", "Murphy", "Haddad", "Andersson"
+    };
+
+    @Param({"10000", "100000", "1000000"})
+    private int employees;
+
+    @Param({"ann", "kowalsk", "novak-1z"})
+    private String searchString;
+
+    private List<EmployeeResponse> snapshot;
+    private EmployeeNameIndex index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new Random(42);
+        snapshot = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            // A suffix keeps the names distinct, like the generated ones upstream
+            final var name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + "-" + Integer.toString(i, 36);
+            snapshot.add(new EmployeeResponse(UUID.randomUUID(), name, 100_000, 30, "Engineer", "e@company.com"));
+        }
+        index = EmployeeNameIndex.of(snapshot);
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> scan() {
+        final var lowerSearchStr = searchString.toLowerCase();
+        return snapshot.stream()
+                .filter(employee -> employee.getName().toLowerCase().contains(lowerSearchStr))
+                .toList();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> index() {
+        return index.search(searchString);
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.request.EmployeeRanking;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * The k highest earners: a stable sort of every employee, cut to k, versus the bounded heap selection of
+ * EmployeeColumns, which runs fork-join over large lists. The selection is measured uncached, as the first request for
+ * a (k, field) against a new snapshot pays it.
+ *
+ *   ./gradlew api:jmh -Pjmh.includes=EmployeeTopKBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeTopKBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int employees;
+
+    @Param({"10", "100", "1000"})
+    private int k;
+
+    private List<EmployeeResponse> snapshot;
+    private EmployeeColumns columns;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new Random(42);
+        snapshot = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            snapshot.add(new EmployeeResponse(
+                    UUID.randomUUID(),
+                    "Employee " + i,
+                    30_000 + random.nextInt(200_000),
+                    18 + random.nextInt(50),
+                    "Engineer",
+                    "e@company.com"));
+        }
+        columns = EmployeeColumns.of(snapshot);
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> fullSort() {
+        return snapshot.stream()
+                .sorted(Comparator.comparingInt(EmployeeResponse::getSalary).reversed())
+                .limit(k)
+                .toList();
+    }
+
+    @Benchmark
+    public int[] boundedHeap() {
+        return columns.selectTop(EmployeeRanking.SALARY, k);
+    }
+}
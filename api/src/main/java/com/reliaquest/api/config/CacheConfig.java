@@ -1,7 +1,13 @@
 package com.reliaquest.api.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-import java.util.concurrent.TimeUnit;
+import com.reliaquest.api.constants.CacheNames;
+import com.reliaquest.api.service.EmployeeSearchReverseIndex;
+import io.micrometer.core.instrument.Tag;
+import java.util.Collection;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -16,14 +22,21 @@ import org.springframework.context.annotation.Configuration;
  * </p>
  *
  * <ul>
- *   <li>{@link #caffeineConfig()} – Configures a {@link Caffeine} builder with:
+ *   <li>{@link #caffeineConfig()} – Configures a {@link Caffeine} builder with the default
+ *       {@link CacheProperties.Spec}, for caches not listed in {@link CacheNames}:
  *       <ul>
  *         <li>Entries expiring 5 minutes after write</li>
  *         <li>Initial capacity of 100 entries</li>
+ *         <li>Statistics recorded</li>
  *       </ul>
  *   </li>
- *   <li>{@link #cacheManager(Caffeine)} – Provides a {@link CacheManager}
- *       backed by {@link CaffeineCacheManager}, using the custom {@link Caffeine} configuration.</li>
+ *   <li>{@link #cacheManager(Caffeine, CacheProperties, EmployeeSearchReverseIndex)} – Provides a {@link CacheManager}
+ *       backed by {@link CaffeineCacheManager}, with every cache in {@link CacheNames} built from its own
+ *       {@link CacheProperties.Spec}. {@link CacheNames#EMPLOYEES} is registered by the employee snapshot cache, and
+ *       every search leaving {@link CacheNames#EMPLOYEES_BY_NAME_SEARCH} is dropped from the
+ *       {@link EmployeeSearchReverseIndex}.</li>
+ *   <li>{@link #cacheMetricsBinder(CacheManager, ObjectProvider)} – Publishes the statistics of every cache, including
+ *       those registered after startup, as {@code cache.*} metrics tagged with the cache name.</li>
  * </ul>
  *
  * <p>
@@ -36,20 +49,79 @@ import org.springframework.context.annotation.Configuration;
 @EnableCaching
 public class CacheConfig {
 
-    private static final int EXPIRY_M = 5;
-    private static final int INITIAL_CAPACITY = 100;
+    private static final Tag CACHE_MANAGER_TAG = Tag.of("cache.manager", "cacheManager");
 
     @Bean
-    public Caffeine caffeineConfig() {
-        return Caffeine.newBuilder()
-                .expireAfterWrite(EXPIRY_M, TimeUnit.MINUTES)
-                .initialCapacity(INITIAL_CAPACITY);
+    public Caffeine<Object, Object> caffeineConfig() {
+        return caffeineOf(new CacheProperties.Spec());
     }
 
     @Bean
-    public CacheManager cacheManager(Caffeine caffeine) {
+    public CacheManager cacheManager(
+            Caffeine<Object, Object> caffeine,
+            CacheProperties cacheProperties,
+            EmployeeSearchReverseIndex employeeSearchReverseIndex) {
         CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
         caffeineCacheManager.setCaffeine(caffeine);
+        for (final var name : CacheNames.ALL) {
+            if (CacheNames.EMPLOYEES.equals(name)) {
+                continue;
+            }
+            final var spec = cacheProperties.specFor(name);
+            if (spec.getRefreshAfterWrite() != null) {
+                throw new IllegalStateException(
+                        "Cache [%s] cannot refresh itself, only [%s] can".formatted(name, CacheNames.EMPLOYEES));
+            }
+            final var builder = caffeineOf(spec);
+            if (CacheNames.EMPLOYEES_BY_NAME_SEARCH.equals(name)) {
+                builder.removalListener(employeeSearchReverseIndex);
+            }
+            caffeineCacheManager.registerCustomCache(name, builder.build());
+        }
         return caffeineCacheManager;
     }
+
+    /**
+     * Binds after every singleton is created, so caches registered by other beans are included.
+     */
+    @Bean
+    public SmartInitializingSingleton cacheMetricsBinder(
+            CacheManager cacheManager, ObjectProvider<CacheMetricsRegistrar> cacheMetricsRegistrar) {
+        return () -> cacheMetricsRegistrar.ifAvailable(registrar -> cacheManager
+                .getCacheNames()
+                .forEach(name -> registrar.bindCacheToRegistry(cacheManager.getCache(name), CACHE_MANAGER_TAG)));
+    }
+
+    /**
+     * A new builder for the given policy. Refreshing is left to the caller, as it needs a loader.
+     *
+     * @param spec The cache policy
+     * @return a builder applying the policy
+     */
+    public static Caffeine<Object, Object> caffeineOf(CacheProperties.Spec spec) {
+        var caffeine = Caffeine.newBuilder().initialCapacity(spec.getInitialCapacity());
+        if (spec.getMaximumSize() != null && spec.getMaximumWeight() != null) {
+            throw new IllegalStateException("Set at most one of maximum-size and maximum-weight");
+        }
+        if (spec.getMaximumSize() != null) {
+            caffeine.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getMaximumWeight() != null) {
+            caffeine = caffeine.maximumWeight(spec.getMaximumWeight()).weigher(CacheConfig::weigh);
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            caffeine.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.isRecordStats()) {
+            caffeine.recordStats();
+        }
+        return caffeine;
+    }
+
+    /**
+     * A cached list weighs as many entries as it holds, so one broad search counts for as much as many narrow ones.
+     */
+    private static int weigh(Object key, Object value) {
+        return value instanceof Collection<?> collection ? Math.max(1, collection.size()) : 1;
+    }
 }
@@ -0,0 +1,88 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.constants.CacheNames;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration class for cache settings.
+ * <p>
+ * Binds properties defined with the prefix {@code api.cache} from the application configuration.
+ * </p>
+ *
+ * <p>Example configuration:</p>
+ * <pre>
+ * api:
+ *   cache:
+ *     specs:
+ *       employees:
+ *         expire-after-write: 10m
+ *         refresh-after-write: 4m
+ *       employeesByNameSearch:
+ *         maximum-weight: 100000
+ *       topSalary:
+ *         maximum-size: 1
+ * </pre>
+ *
+ * <ul>
+ *   <li>{@link #specs} – Policy of each cache, keyed by its name in {@link CacheNames}; a cache without an entry gets
+ *       the defaults of {@link Spec}.</li>
+ * </ul>
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "api.cache")
+public class CacheProperties {
+
+    private Map<String, @Valid Spec> specs = new HashMap<>();
+
+    /**
+     * @param name The cache name
+     * @return the configured policy of the cache, or the default one
+     */
+    public Spec specFor(final String name) {
+        return specs.getOrDefault(name, new Spec());
+    }
+
+    /**
+     * Policy of a single cache. Settings left out of a configured spec keep these defaults.
+     *
+     * <ul>
+     *   <li>{@link #initialCapacity} – Entries to allocate room for up front.</li>
+     *   <li>{@link #maximumSize} – Entries kept before the least valuable are evicted; unbounded if unset.</li>
+     *   <li>{@link #maximumWeight} – Alternative bound to {@link #maximumSize}, where a cached list weighs as many
+     *       entries as it holds; for caches whose values vary widely in size. Set at most one of the two.</li>
+     *   <li>{@link #expireAfterWrite} – Age after which an entry is dropped; never if unset.</li>
+     *   <li>{@link #refreshAfterWrite} – Age after which an entry is reloaded in the background while the current
+     *       one is still served. Only {@link CacheNames#EMPLOYEES} can reload itself, and only below
+     *       {@link #expireAfterWrite}.</li>
+     *   <li>{@link #recordStats} – Record hits, misses, evictions and load times, published per cache as
+     *       {@code cache.*} metrics.</li>
+     * </ul>
+     */
+    @Data
+    public static class Spec {
+
+        @PositiveOrZero
+        private int initialCapacity = 100;
+
+        @Positive private Long maximumSize;
+
+        @Positive private Long maximumWeight;
+
+        private Duration expireAfterWrite = Duration.ofMinutes(5);
+
+        private Duration refreshAfterWrite;
+
+        private boolean recordStats = true;
+    }
+}
@@ -1,9 +1,15 @@
 package com.reliaquest.api.config;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
 
 /**
  * Configuration class for external employee API client settings.
@@ -18,10 +24,45 @@ import org.springframework.context.annotation.Configuration;
  * api:
  *   employee:
  *     base-url: https://example.com/api/employees
+ *     page-size: 1000
+ *     max-concurrent-pages: 4
+ *     virtual-threads: true
+ *     batch-size: 100
+ *     change-feed-enabled: true
+ *     change-feed-reconnect-delay: 1s
+ *     http:
+ *       max-connections: 50
+ *       keep-alive: 15s
+ *       connect-timeout: 2s
+ *       pool-timeout: 1s
+ *       read-timeout: 30s
+ *       gzip: true
+ *       http2: false
+ *     retry:
+ *       max-attempts: 3
+ *       initial-backoff: 100ms
+ *       max-backoff: 2s
+ *       max-retry-after: 5s
+ *     circuit-breaker:
+ *       failure-threshold: 5
+ *       open-duration: 10s
  * </pre>
  *
  * <ul>
  *   <li>{@link #baseUrl} – The base URL of the employee API (required).</li>
+ *   <li>{@link #pageSize} – Employees per page when fetching all employees; {@code 0} fetches everything in a
+ *       single request.</li>
+ *   <li>{@link #maxConcurrentPages} – Upper bound on page requests in flight at once.</li>
+ *   <li>{@link #virtualThreads} – Fetch pages on virtual threads rather than a pool of
+ *       {@link #maxConcurrentPages} platform threads; needs Java 21, and follows {@code spring.threads.virtual.enabled}
+ *       by default.</li>
+ *   <li>{@link #batchSize} – Items forwarded per upstream request for bulk creates and deletes.</li>
+ *   <li>{@link #changeFeedEnabled} – Subscribe to the upstream change feed and patch caches as changes arrive.</li>
+ *   <li>{@link #changeFeedReconnectDelay} – Initial delay before reconnecting to the change feed; doubled on every
+ *       consecutive failure.</li>
+ *   <li>{@link #http} – Transport settings for upstream requests, see {@link Http}.</li>
+ *   <li>{@link #retry} – Retries of throttled or failed upstream requests, see {@link Retry}.</li>
+ *   <li>{@link #circuitBreaker} – Failing fast while upstream is saturated, see {@link CircuitBreaker}.</li>
  * </ul>
  *
  * <p>
@@ -30,10 +71,111 @@ import org.springframework.context.annotation.Configuration;
  * </p>
  */
 @Data
+@Validated
 @Configuration
 @ConfigurationProperties(prefix = "api.employee")
 public class ClientConfig {
 
     @NotBlank
     private String baseUrl;
+
+    @PositiveOrZero
+    private int pageSize = 0;
+
+    @Positive private int maxConcurrentPages = 4;
+
+    private boolean virtualThreads = false;
+
+    @Positive private int batchSize = 100;
+
+    private boolean changeFeedEnabled = false;
+
+    @NotNull private Duration changeFeedReconnectDelay = Duration.ofSeconds(1);
+
+    @Valid
+    private Http http = new Http();
+
+    @Valid
+    private Retry retry = new Retry();
+
+    @Valid
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Settings for the pooled HTTP transport used to reach the employee API.
+     *
+     * <ul>
+     *   <li>{@link #maxConnections} – Size of the connection pool; requests beyond it wait for a free connection.</li>
+     *   <li>{@link #keepAlive} – How long an idle connection is kept for reuse when upstream does not say; keep it
+     *       below the upstream's own keep-alive timeout so a closed connection is never picked.</li>
+     *   <li>{@link #connectTimeout} – Maximum time to establish a connection.</li>
+     *   <li>{@link #poolTimeout} – Maximum time to wait for a pooled connection before failing the request.</li>
+     *   <li>{@link #readTimeout} – Maximum time to wait for the response, and for each read of its body. The change
+     *       feed shares it, so keep it above the upstream heartbeat interval.</li>
+     *   <li>{@link #gzip} – Ask for gzip-encoded responses and decode them transparently.</li>
+     *   <li>{@link #http2} – Use HTTP/2 (falling back to HTTP/1.1 if upstream does not upgrade); requests are then
+     *       multiplexed over one connection, so the pool settings and gzip do not apply.</li>
+     * </ul>
+     */
+    @Data
+    public static class Http {
+
+        @Positive private int maxConnections = 50;
+
+        @NotNull private Duration keepAlive = Duration.ofSeconds(15);
+
+        @NotNull private Duration connectTimeout = Duration.ofSeconds(2);
+
+        @NotNull private Duration poolTimeout = Duration.ofSeconds(1);
+
+        @NotNull private Duration readTimeout = Duration.ofSeconds(30);
+
+        private boolean gzip = true;
+
+        private boolean http2 = false;
+    }
+
+    /**
+     * Retry settings for upstream requests. Throttled requests ({@code 429}, {@code 503}) are retried for every
+     * method, since upstream rejected them before doing any work; connection failures and other server errors only
+     * for idempotent ones.
+     *
+     * <ul>
+     *   <li>{@link #maxAttempts} – Attempts per request, including the first; {@code 1} disables retries.</li>
+     *   <li>{@link #initialBackoff} – Backoff cap before the first retry, doubled on every further retry. The actual
+     *       wait is drawn uniformly below the cap ("full jitter"), so clients throttled together do not retry
+     *       together.</li>
+     *   <li>{@link #maxBackoff} – Upper bound on the backoff cap.</li>
+     *   <li>{@link #maxRetryAfter} – Longest {@code Retry-After} worth waiting for; beyond it the request fails at once
+     *       rather than holding a request thread.</li>
+     * </ul>
+     */
+    @Data
+    public static class Retry {
+
+        @Positive private int maxAttempts = 3;
+
+        @NotNull private Duration initialBackoff = Duration.ofMillis(100);
+
+        @NotNull private Duration maxBackoff = Duration.ofSeconds(2);
+
+        @NotNull private Duration maxRetryAfter = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Circuit breaker settings for upstream requests.
+     *
+     * <ul>
+     *   <li>{@link #failureThreshold} – Consecutive throttled or failed attempts after which requests fail fast.</li>
+     *   <li>{@link #openDuration} – How long requests fail fast before a single trial request is let through; a longer
+     *       {@code Retry-After} from upstream takes precedence.</li>
+     * </ul>
+     */
+    @Data
+    public static class CircuitBreaker {
+
+        @Positive private int failureThreshold = 5;
+
+        @NotNull private Duration openDuration = Duration.ofSeconds(10);
+    }
 }
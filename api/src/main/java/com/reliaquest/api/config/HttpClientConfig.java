@@ -0,0 +1,148 @@
+package com.reliaquest.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.log4j.Log4j2;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateBuilderConfigurer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+/**
+ * HTTP transport configuration for requests to the employee API.
+ * <p>
+ * Replaces the default {@link RestTemplateBuilder} with one that keeps Spring Boot's customizations (message
+ * converters, {@code http.client.requests} observations) but sends requests through a single shared, tuned
+ * transport configured by {@link ClientConfig.Http}.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@link #employeeRequestFactory(ClientConfig, MeterRegistry)} – Provides either:
+ *       <ul>
+ *         <li>a pooled Apache HttpClient with connect, pool and read timeouts, keep-alive and gzip negotiation, or</li>
+ *         <li>the JDK {@link HttpClient} speaking HTTP/2 when {@link ClientConfig.Http#isHttp2()} is set</li>
+ *       </ul>
+ *   </li>
+ *   <li>{@link #restTemplateBuilder(ObjectProvider, ClientHttpRequestFactory)} – Provides the
+ *       {@link RestTemplateBuilder} injected into clients, bound to that transport.</li>
+ * </ul>
+ *
+ * <p>
+ * The pooled transport publishes its pool usage ({@code httpcomponents.httpclient.pool.*}) and the time to each
+ * upstream response ({@value #UPSTREAM_TIMER}, with 50th, 95th and 99th percentiles), both tagged with the pool name.
+ * </p>
+ */
+@Log4j2
+@Configuration
+public class HttpClientConfig {
+
+    public static final String POOL_NAME = "employee-api";
+    public static final String UPSTREAM_TIMER = "employee.upstream.requests";
+
+    private static final TimeValue VALIDATE_AFTER_INACTIVITY = TimeValue.ofSeconds(2);
+
+    @Bean
+    public ClientHttpRequestFactory employeeRequestFactory(ClientConfig clientConfig, MeterRegistry meterRegistry) {
+        final var http = clientConfig.getHttp();
+        if (http.isHttp2()) {
+            log.info("Using HTTP/2 transport for [{}]", POOL_NAME);
+            final var client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(http.getConnectTimeout())
+                    .build();
+            final var requestFactory = new JdkClientHttpRequestFactory(client);
+            requestFactory.setReadTimeout(http.getReadTimeout());
+            return requestFactory;
+        }
+
+        final var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                // Every request goes to the same upstream, so one route may use the whole pool
+                .setMaxConnPerRoute(http.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(http.getReadTimeout()))
+                        .setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY)
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+
+        final var clientBuilder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(http.getPoolTimeout()))
+                        .setResponseTimeout(Timeout.of(http.getReadTimeout()))
+                        .setConnectionKeepAlive(TimeValue.of(http.getKeepAlive()))
+                        .build())
+                // Retries are left to UpstreamGuard; the client's own would retry 429s behind its back
+                .disableAutomaticRetries()
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(http.getKeepAlive()))
+                .addExecInterceptorFirst(UPSTREAM_TIMER, timed(meterRegistry));
+        if (!http.isGzip()) {
+            clientBuilder.disableContentCompression();
+        }
+        log.info("Using pooled transport for [{}] with [{}] connections", POOL_NAME, http.getMaxConnections());
+        return new HttpComponentsClientHttpRequestFactory(clientBuilder.build());
+    }
+
+    @Bean
+    public RestTemplateBuilder restTemplateBuilder(
+            ObjectProvider<RestTemplateBuilderConfigurer> configurer, ClientHttpRequestFactory employeeRequestFactory) {
+        // Spring Boot only provides the configurer to servlet applications; the reactive profile still reloads in the
+        // background and follows the change feed through RestTemplate
+        final var servletConfigurer = configurer.getIfAvailable();
+        return (servletConfigurer == null
+                        ? new RestTemplateBuilder()
+                        : servletConfigurer.configure(new RestTemplateBuilder()))
+                .requestFactory(() -> employeeRequestFactory);
+    }
+
+    /**
+     * Times every exchange from leasing a connection until the response headers arrive. Body reads are excluded, so
+     * a long-lived stream such as the change feed only records how long it took to open. Each method and outcome is
+     * registered once, on its first exchange, and its timer reused after that.
+     */
+    private static ExecChainHandler timed(MeterRegistry meterRegistry) {
+        final Map<String, Map<Outcome, Timer>> timers = new ConcurrentHashMap<>();
+        return (request, scope, chain) -> {
+            final var sample = Timer.start(meterRegistry);
+            var outcome = Outcome.UNKNOWN;
+            try {
+                final var response = chain.proceed(request, scope);
+                outcome = Outcome.forStatus(response.getCode());
+                return response;
+            } finally {
+                final var method = request.getMethod();
+                sample.stop(timers.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(outcome, key -> upstreamTimer(meterRegistry, method, key)));
+            }
+        };
+    }
+
+    private static Timer upstreamTimer(MeterRegistry meterRegistry, String method, Outcome outcome) {
+        return Timer.builder(UPSTREAM_TIMER)
+                .description("Time until upstream responded, per connection pool")
+                .tag("pool", POOL_NAME)
+                .tag("method", method)
+                .tag("outcome", outcome.name())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
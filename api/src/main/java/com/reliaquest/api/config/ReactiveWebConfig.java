@@ -0,0 +1,66 @@
+package com.reliaquest.api.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Configuration of the reactive variant of the API, active when the application runs as a reactive web application,
+ * as the {@code reactive} profile does with {@code spring.main.web-application-type=reactive}.
+ *
+ * <ul>
+ *   <li>{@link #reactiveWebServerFactory()} – Serves requests from Netty on a handful of event-loop threads, rather
+ *       than from Tomcat, which Spring Boot prefers whenever it is on the classpath.</li>
+ *   <li>{@link #employeeWebClient(WebClient.Builder, ClientConfig)} – Provides the {@link WebClient} for the employee
+ *       API, running on the same event loops, with the pool size and timeouts of {@link ClientConfig.Http}.</li>
+ * </ul>
+ *
+ * <p>
+ * A request in flight holds a pooled connection but no thread, so {@link ClientConfig.Http#getMaxConnections()} is
+ * what bounds concurrent upstream calls here; the {@code reactive} profile raises it accordingly.
+ * </p>
+ */
+@Log4j2
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory reactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public WebClient employeeWebClient(WebClient.Builder builder, ClientConfig clientConfig) {
+        final var http = clientConfig.getHttp();
+        final var connectionProvider = ConnectionProvider.builder(HttpClientConfig.POOL_NAME)
+                .maxConnections(http.getMaxConnections())
+                .pendingAcquireTimeout(http.getPoolTimeout())
+                .maxIdleTime(http.getKeepAlive())
+                .build();
+        var httpClient = HttpClient.create(connectionProvider)
+                .option(
+                        ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                        Math.toIntExact(http.getConnectTimeout().toMillis()))
+                .responseTimeout(http.getReadTimeout())
+                .compress(http.isGzip());
+        if (http.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+        log.info(
+                "Using non-blocking transport for [{}] with [{}] connections",
+                HttpClientConfig.POOL_NAME,
+                http.getMaxConnections());
+        return builder.baseUrl(clientConfig.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -1,7 +1,9 @@
 package com.reliaquest.api.constants;
 
 import com.reliaquest.api.model.request.CreateEmployeeRequest;
+import com.reliaquest.api.service.EmployeeCacheUpdater;
 import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
 
 /**
  * Defines cache name constants used across the application for caching employee data.
@@ -16,11 +18,15 @@ import com.reliaquest.api.service.EmployeeService;
  *   <li>{@link #EMPLOYEE_BY_ID} – Cache for a single employee retrieved by ID.</li>
  *   <li>{@link #TOP_SALARY} – Cache for the top salary value among employees.</li>
  *   <li>{@link #TOP_EARNING_EMPLOYEES} – Cache for the list of employees with the highest salaries.</li>
+ *   <li>{@link #ALL} – Every cache above.</li>
  * </ul>
  *
  * <p>
- *     {@code @CacheEvict's} occur on {@link EmployeeService#createEmployee(CreateEmployeeRequest)} and
- *     {@link EmployeeService#deleteEmployeeById(String)} to maintain cache consistency as the underlying data changes.
+ *     {@link EmployeeService#createEmployee(CreateEmployeeRequest)} and
+ *     {@link EmployeeService#deleteEmployeeById(String)} keep the caches consistent without evicting them: the created
+ *     or deleted employee is patched into the cached list and its indexes, and the other caches are updated or
+ *     selectively evicted, by {@link EmployeeCacheUpdater}. Changes made by other clients are applied the same way when
+ *     the change feed is enabled. Only the batch operations still {@code @CacheEvict} every list cache.
  * </p>
  */
 public final class CacheNames {
@@ -32,4 +38,6 @@ public final class CacheNames {
     public static final String EMPLOYEE_BY_ID = "employeeById";
     public static final String TOP_SALARY = "topSalary";
     public static final String TOP_EARNING_EMPLOYEES = "topEarningEmployees";
+    public static final List<String> ALL =
+            List.of(EMPLOYEES, EMPLOYEES_BY_NAME_SEARCH, EMPLOYEE_BY_ID, TOP_SALARY, TOP_EARNING_EMPLOYEES);
 }
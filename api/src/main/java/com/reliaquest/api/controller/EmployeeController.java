@@ -2,16 +2,34 @@ package com.reliaquest.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.model.request.CreateEmployeeRequest;
+import com.reliaquest.api.model.request.EmployeeRanking;
+import com.reliaquest.api.model.response.AgeBandResponse;
+import com.reliaquest.api.model.response.BatchItemResponse;
 import com.reliaquest.api.model.response.EmployeeResponse;
+import com.reliaquest.api.model.response.EmployeeStatsResponse;
+import com.reliaquest.api.model.response.SalaryHistogramBucketResponse;
+import com.reliaquest.api.model.response.SalaryPercentileResponse;
 import com.reliaquest.api.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.net.URI;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -24,20 +42,35 @@ import org.springframework.web.bind.annotation.RestController;
  *     <li>Getting an employee by ID</li>
  *     <li>Getting the highest salary among employees</li>
  *     <li>Listing the top ten highest earning employee names</li>
+ *     <li>Listing the top employees, or their names, by salary or age</li>
+ *     <li>Aggregating salaries, ages and titles over every employee</li>
+ *     <li>Salary percentiles, salary histograms and salaries by age band, computed here so dashboards need not fetch
+ *     every employee</li>
  *     <li>Creating a new employee</li>
  *     <li>Deleting an employee by ID</li>
+ *     <li>Creating and deleting employees in bulk</li>
  * </ul>
  * <p>
- * Uses {@link EmployeeService} for business logic and {@link ObjectMapper} for request conversion.
+ * Uses {@link EmployeeService} for business logic and {@link ObjectMapper} for request conversion. Served from
+ * servlet threads; the {@code reactive} profile serves the API contract from {@link ReactiveEmployeeController}
+ * instead.
  * <p>
  */
 @Log4j2
 @RestController()
 @RequestMapping("/api/v1/employees")
 @Tag(name = "Employees", description = "Operations for managing, and querying employee data")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class EmployeeController implements IEmployeeController<EmployeeResponse, CreateEmployeeRequest> {
 
+    // Bound what is kept per version of the employee list: a histogram per bucket count, age bands per band width,
+    // and the longest ranking per field
+    private static final int MAX_PERCENTILES = 100;
+    private static final int MAX_HISTOGRAM_BUCKETS = 1000;
+    private static final int MAX_AGE_BAND_WIDTH = 100;
+    private static final int MAX_TOP_K = 10_000;
+
     private final ObjectMapper objectMapper;
     private final EmployeeService employeeService;
 
@@ -79,6 +112,47 @@ public class EmployeeController implements IEmployeeController<EmployeeResponse,
         return ResponseEntity.ok(topEarningEmployees);
     }
 
+    @GetMapping("/top")
+    @Operation(summary = "Gets the top k employees by salary or age, or only their names")
+    public ResponseEntity<List<?>> getTopEmployees(
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_TOP_K) int k,
+            @RequestParam(defaultValue = "SALARY") EmployeeRanking by,
+            @RequestParam(defaultValue = "false") boolean namesOnly) {
+        final List<EmployeeResponse> top = employeeService.getTopEmployees(k, by);
+        if (namesOnly) {
+            return ResponseEntity.ok(top.stream().map(EmployeeResponse::getName).toList());
+        }
+        return ResponseEntity.ok(top);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Gets salary, age and title aggregates over every employee")
+    public ResponseEntity<EmployeeStatsResponse> getEmployeeStats() {
+        return ResponseEntity.ok(employeeService.getEmployeeStats());
+    }
+
+    @GetMapping("/stats/salary-percentiles")
+    @Operation(summary = "Gets salary percentiles over every employee, by nearest rank")
+    public ResponseEntity<List<SalaryPercentileResponse>> getSalaryPercentiles(
+            @RequestParam(name = "p", defaultValue = "50,90,99") @Size(min = 1, max = MAX_PERCENTILES)
+                    List<@NotNull @DecimalMin("0") @DecimalMax("100") Double> percentiles) {
+        return ResponseEntity.ok(employeeService.getSalaryPercentiles(percentiles));
+    }
+
+    @GetMapping("/stats/salary-histogram")
+    @Operation(summary = "Gets the number of employees in each of equal salary buckets")
+    public ResponseEntity<List<SalaryHistogramBucketResponse>> getSalaryHistogram(
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_HISTOGRAM_BUCKETS) int buckets) {
+        return ResponseEntity.ok(employeeService.getSalaryHistogram(buckets));
+    }
+
+    @GetMapping("/stats/age-bands")
+    @Operation(summary = "Gets the headcount, lowest and average salary of each age band")
+    public ResponseEntity<List<AgeBandResponse>> getAgeBands(
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_AGE_BAND_WIDTH) int width) {
+        return ResponseEntity.ok(employeeService.getAgeBands(width));
+    }
+
     @Override
     @Operation(summary = "Creates a new employee")
     public ResponseEntity<EmployeeResponse> createEmployee(CreateEmployeeRequest employeeInput) {
@@ -102,4 +176,19 @@ public class EmployeeController implements IEmployeeController<EmployeeResponse,
         }
         return ResponseEntity.ok(deletedEmployeeName);
     }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Creates employees in bulk, reporting the outcome of each one")
+    public ResponseEntity<List<BatchItemResponse<EmployeeResponse>>> createEmployees(
+            @RequestBody List<CreateEmployeeRequest> employeeInputs) {
+        final List<BatchItemResponse<EmployeeResponse>> results = this.employeeService.createEmployees(employeeInputs);
+        return ResponseEntity.ok(results);
+    }
+
+    @DeleteMapping("/batch")
+    @Operation(summary = "Deletes employees in bulk by their names as ids, reporting the outcome of each one")
+    public ResponseEntity<List<BatchItemResponse<String>>> deleteEmployeesByName(@RequestBody List<String> names) {
+        final List<BatchItemResponse<String>> results = this.employeeService.deleteEmployeesByName(names);
+        return ResponseEntity.ok(results);
+    }
 }
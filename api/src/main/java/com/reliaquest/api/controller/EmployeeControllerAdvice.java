@@ -0,0 +1,36 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps upstream failures that callers can act on to HTTP responses.
+ * <ul>
+ *     <li>{@link UpstreamThrottledException} – {@code 503 Service Unavailable} with a {@code Retry-After} header, so
+ *     clients back off instead of retrying straight into a throttled upstream</li>
+ * </ul>
+ */
+@Log4j2
+@RestControllerAdvice
+public class EmployeeControllerAdvice {
+
+    private static final long MIN_RETRY_AFTER_SECONDS = 1;
+
+    @ExceptionHandler(UpstreamThrottledException.class)
+    public ResponseEntity<ProblemDetail> handleUpstreamThrottled(final UpstreamThrottledException exception) {
+        final var retryAfterSeconds =
+                Math.max(MIN_RETRY_AFTER_SECONDS, (exception.getRetryAfter().toMillis() + 999) / 1000);
+        log.warn("{}, asking caller to retry after [{}] s", exception.getMessage(), retryAfterSeconds);
+
+        final var problem = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, exception.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(problem);
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.api.controller;
+
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import reactor.core.publisher.Mono;
+
+/**
+ * The API contract of {@link IEmployeeController}, route for route, with every response published as a {@link Mono}
+ * so it can be served without blocking a thread.
+ * <p>
+ * {@link IEmployeeController} must not be modified, so the reactive variant follows it here instead; keep the two in
+ * step.
+ *
+ * @param <Entity> object representation of an Employee
+ * @param <Input> object representation of a request body for creating Employee(s)
+ */
+public interface IReactiveEmployeeController<Entity, Input> {
+
+    @GetMapping()
+    Mono<ResponseEntity<List<Entity>>> getAllEmployees();
+
+    @GetMapping("/search/{searchString}")
+    Mono<ResponseEntity<List<Entity>>> getEmployeesByNameSearch(@PathVariable String searchString);
+
+    @GetMapping("/{id}")
+    Mono<ResponseEntity<Entity>> getEmployeeById(@PathVariable String id);
+
+    @GetMapping("/highestSalary")
+    Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees();
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames();
+
+    @PostMapping()
+    Mono<ResponseEntity<Entity>> createEmployee(@RequestBody Input employeeInput);
+
+    @DeleteMapping("/{id}")
+    Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id);
+}
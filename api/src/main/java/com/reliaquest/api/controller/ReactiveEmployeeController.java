@@ -0,0 +1,106 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.request.CreateEmployeeRequest;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.net.URI;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveEmployeeController serves the employee API contract from WebFlux, in place of {@link EmployeeController}
+ * when the application runs as a reactive web application (the {@code reactive} profile).
+ * <p>
+ * This controller provides endpoints for:
+ * <ul>
+ *     <li>Retrieving all employees</li>
+ *     <li>Searching employees by name fragment</li>
+ *     <li>Getting an employee by ID</li>
+ *     <li>Getting the highest salary among employees</li>
+ *     <li>Listing the top ten highest earning employee names</li>
+ *     <li>Creating a new employee</li>
+ *     <li>Deleting an employee by ID</li>
+ * </ul>
+ * <p>
+ * Responses match {@link EmployeeController}'s, status for status. The statistics, ranking and bulk endpoints are
+ * only served by {@link EmployeeController}.
+ * <p>
+ * Uses {@link ReactiveEmployeeService} for business logic.
+ */
+@Log4j2
+@RestController()
+@RequestMapping("/api/v1/employees")
+@Tag(name = "Employees", description = "Operations for managing, and querying employee data")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveEmployeeController
+        implements IReactiveEmployeeController<EmployeeResponse, CreateEmployeeRequest> {
+
+    private final ReactiveEmployeeService reactiveEmployeeService;
+
+    @Override
+    @Operation(summary = "Gets all employees")
+    public Mono<ResponseEntity<List<EmployeeResponse>>> getAllEmployees() {
+        return reactiveEmployeeService.getAllEmployees().map(ResponseEntity::ok);
+    }
+
+    @Override
+    @Operation(summary = "Gets all employees matching a search fragment i.e. 'oe' matches on 'Jane doe'")
+    public Mono<ResponseEntity<List<EmployeeResponse>>> getEmployeesByNameSearch(String searchString) {
+        return reactiveEmployeeService.getEmployeesByNameSearch(searchString).map(ResponseEntity::ok);
+    }
+
+    @Override
+    @Operation(summary = "Gets an employee by their id")
+    public Mono<ResponseEntity<EmployeeResponse>> getEmployeeById(String id) {
+        return reactiveEmployeeService.getEmployeeById(id).map(employeeResponse -> {
+            if (employeeResponse == EmployeeResponse.BLANK) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(employeeResponse);
+        });
+    }
+
+    @Override
+    @Operation(summary = "Gets the highest salary among employees")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return reactiveEmployeeService.getHighestSalaryOfEmployees().map(ResponseEntity::ok);
+    }
+
+    @Override
+    @Operation(summary = "Gets the names of the top ten earning employees")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return reactiveEmployeeService.getTopTenHighestEarningEmployeeNames().map(ResponseEntity::ok);
+    }
+
+    @Override
+    @Operation(summary = "Creates a new employee")
+    public Mono<ResponseEntity<EmployeeResponse>> createEmployee(CreateEmployeeRequest employeeInput) {
+        return reactiveEmployeeService.createEmployee(employeeInput).map(createdEmployee -> {
+            if (createdEmployee == EmployeeResponse.BLANK) {
+                return ResponseEntity.internalServerError().body(createdEmployee);
+            }
+            final URI location = URI.create("/" + createdEmployee.getId());
+            return ResponseEntity.created(location).body(createdEmployee);
+        });
+    }
+
+    @Override
+    @Operation(summary = "Deletes an employee by their name as the id")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(String id) {
+        return reactiveEmployeeService.deleteEmployeeById(id).map(deletedEmployeeName -> {
+            if (deletedEmployeeName.isEmpty()) {
+                return ResponseEntity.internalServerError().body("Could not delete employee with id: " + id);
+            }
+            return ResponseEntity.ok(deletedEmployeeName);
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown when the employee API is throttling requests, or the circuit breaker in front of it is open, and retrying
+ * within the configured limits did not help.
+ * <p>
+ * Unlike other upstream failures, which {@code EmployeeClient} reports as an empty result, this is surfaced to the
+ * caller: "not found" and "try again later" call for different responses. {@link #getRetryAfter()} is the earliest
+ * time a new attempt is expected to succeed.
+ */
+@Getter
+public class UpstreamThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamThrottledException(final String message, final Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
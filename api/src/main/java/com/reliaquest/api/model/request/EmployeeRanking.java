@@ -0,0 +1,15 @@
+package com.reliaquest.api.model.request;
+
+/**
+ * EmployeeRanking names the field employees are ranked by when selecting the top ones.
+ * <ul>
+ *     <li><b>SALARY</b>: Highest salary first</li>
+ *     <li><b>AGE</b>: Oldest first</li>
+ * </ul>
+ * <p>
+ * Employees ranked equal keep their order in the employee list.
+ */
+public enum EmployeeRanking {
+    SALARY,
+    AGE
+}
@@ -0,0 +1,16 @@
+package com.reliaquest.api.model.response;
+
+/**
+ * AgeBandResponse represents the salaries of the employees within an age band.
+ * <p>
+ * Contains:
+ * <ul>
+ *     <li><b>fromAge</b>: Lowest age in the band, inclusive</li>
+ *     <li><b>toAge</b>: Highest age in the band, exclusive</li>
+ *     <li><b>headcount</b>: Number of employees in the band</li>
+ *     <li><b>lowestSalary</b>: Lowest salary in the band</li>
+ *     <li><b>averageSalary</b>: Average salary in the band</li>
+ * </ul>
+ * <p>
+ */
+public record AgeBandResponse(int fromAge, int toAge, int headcount, int lowestSalary, double averageSalary) {}
@@ -0,0 +1,22 @@
+package com.reliaquest.api.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * BatchItemResponse represents the outcome of a single item within a bulk employee operation.
+ * <p>
+ * Contains:
+ * <ul>
+ *     <li><b>index</b>: Position of the item in the submitted batch</li>
+ *     <li><b>data</b>: Result of the operation when it succeeded</li>
+ *     <li><b>error</b>: Reason the item failed, absent on success</li>
+ * </ul>
+ * <p>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResponse<T>(int index, T data, String error) {
+
+    public static <T> BatchItemResponse<T> error(final int index, final String error) {
+        return new BatchItemResponse<>(index, null, error);
+    }
+}
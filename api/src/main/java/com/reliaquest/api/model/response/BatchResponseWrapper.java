@@ -0,0 +1,15 @@
+package com.reliaquest.api.model.response;
+
+import java.util.List;
+
+/**
+ * BatchResponseWrapper represents the response payload for a bulk create or delete employee operation.
+ * <p>
+ * Contains:
+ * <ul>
+ *     <li><b>data</b>: Per-item results, in submission order</li>
+ *     <li><b>status</b>: Status message of the operation</li>
+ * </ul>
+ * <p>
+ */
+public record BatchResponseWrapper<T>(List<BatchItemResponse<T>> data, String status) {}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.model.response;
+
+/**
+ * EmployeeChangeEvent represents a single change published on the upstream employee change feed.
+ * <p>
+ * Contains:
+ * <ul>
+ *     <li><b>sequence</b>: Position of the change in the feed</li>
+ *     <li><b>type</b>: What happened, see {@link Type}</li>
+ *     <li><b>employee</b>: The created or deleted employee, absent for {@link Type#RESET}</li>
+ * </ul>
+ */
+public record EmployeeChangeEvent(long sequence, Type type, EmployeeResponse employee) {
+
+    /**
+     * The kind of change.
+     * <ul>
+     *     <li>{@link #CREATED} – the employee was added</li>
+     *     <li>{@link #DELETED} – the employee was removed</li>
+     *     <li>{@link #RESET} – earlier changes can no longer be replayed, so anything derived from them is stale</li>
+     * </ul>
+     */
+    public enum Type {
+        CREATED,
+        DELETED,
+        RESET
+    }
+}
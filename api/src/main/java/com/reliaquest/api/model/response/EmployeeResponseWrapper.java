@@ -1,7 +1,7 @@
 package com.reliaquest.api.model.response;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.io.IOException;
@@ -21,23 +21,41 @@ import java.util.List;
 public record EmployeeResponseWrapper(
         @JsonDeserialize(using = SingleOrListDeserializer.class) List<EmployeeResponse> data, String status) {
 
+    /**
+     * Reads {@code data} as a list whether it holds one employee or an array of them.
+     * <p>
+     * Each employee is bound straight from the parser's tokens by the regular {@link EmployeeResponse} deserializer,
+     * so a large list is parsed once and never held as a {@link JsonNode} tree. Any other value reads as an empty
+     * list.
+     */
     static class SingleOrListDeserializer extends JsonDeserializer<List<EmployeeResponse>> {
         @Override
         public List<EmployeeResponse> deserialize(final JsonParser p, final DeserializationContext ctx)
-                throws IOException, JsonProcessingException {
-            final var mapper = (ObjectMapper) p.getCodec();
-            final JsonNode node = mapper.readTree(p);
-            final List<EmployeeResponse> list = new ArrayList<>();
-
-            if (node.isArray()) {
-                for (JsonNode item : node) {
-                    list.add(mapper.treeToValue(item, EmployeeResponse.class));
+                throws IOException {
+            final var token = p.currentToken();
+            if (token == JsonToken.START_ARRAY) {
+                final var employee = employeeDeserializer(ctx);
+                final List<EmployeeResponse> list = new ArrayList<>();
+                while (p.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(
+                            p.currentToken() == JsonToken.VALUE_NULL
+                                    ? null
+                                    : (EmployeeResponse) employee.deserialize(p, ctx));
                 }
-            } else if (node.isObject()) {
-                list.add(mapper.treeToValue(node, EmployeeResponse.class));
+                return list;
+            }
+            if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME) {
+                final List<EmployeeResponse> list = new ArrayList<>(1);
+                list.add((EmployeeResponse) employeeDeserializer(ctx).deserialize(p, ctx));
+                return list;
             }
+            p.skipChildren();
+            return new ArrayList<>();
+        }
 
-            return list;
+        private static JsonDeserializer<Object> employeeDeserializer(final DeserializationContext ctx)
+                throws JsonMappingException {
+            return ctx.findRootValueDeserializer(ctx.constructType(EmployeeResponse.class));
         }
     }
 }
@@ -0,0 +1,27 @@
+package com.reliaquest.api.model.response;
+
+import java.util.Map;
+
+/**
+ * EmployeeStatsResponse represents aggregates over every employee.
+ * <p>
+ * Contains:
+ * <ul>
+ *     <li><b>headcount</b>: Number of employees</li>
+ *     <li><b>lowestSalary</b>, <b>highestSalary</b>, <b>averageSalary</b>, <b>totalSalary</b>: Salary aggregates</li>
+ *     <li><b>youngestAge</b>, <b>oldestAge</b>, <b>averageAge</b>: Age aggregates</li>
+ *     <li><b>headcountByTitle</b>: Number of employees with each job title</li>
+ * </ul>
+ * <p>
+ * Every aggregate is 0 when there are no employees.
+ */
+public record EmployeeStatsResponse(
+        int headcount,
+        int lowestSalary,
+        int highestSalary,
+        double averageSalary,
+        long totalSalary,
+        int youngestAge,
+        int oldestAge,
+        double averageAge,
+        Map<String, Integer> headcountByTitle) {}
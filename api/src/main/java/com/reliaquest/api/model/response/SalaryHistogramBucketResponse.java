@@ -0,0 +1,14 @@
+package com.reliaquest.api.model.response;
+
+/**
+ * SalaryHistogramBucketResponse represents one bucket of a salary histogram.
+ * <p>
+ * Contains:
+ * <ul>
+ *     <li><b>fromSalary</b>: Lowest salary in the bucket, inclusive</li>
+ *     <li><b>toSalary</b>: Highest salary in the bucket, exclusive</li>
+ *     <li><b>headcount</b>: Number of employees earning a salary in the bucket</li>
+ * </ul>
+ * <p>
+ */
+public record SalaryHistogramBucketResponse(long fromSalary, long toSalary, int headcount) {}
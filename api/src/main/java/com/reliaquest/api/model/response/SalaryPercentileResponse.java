@@ -0,0 +1,13 @@
+package com.reliaquest.api.model.response;
+
+/**
+ * SalaryPercentileResponse represents one percentile of the salaries of every employee.
+ * <p>
+ * Contains:
+ * <ul>
+ *     <li><b>percentile</b>: The percentile requested, from 0 to 100</li>
+ *     <li><b>salary</b>: The lowest salary that at least that percentage of employees earn at most</li>
+ * </ul>
+ * <p>
+ */
+public record SalaryPercentileResponse(double percentile, int salary) {}
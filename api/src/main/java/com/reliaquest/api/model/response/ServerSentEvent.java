@@ -0,0 +1,13 @@
+package com.reliaquest.api.model.response;
+
+/**
+ * ServerSentEvent represents one event read from a {@code text/event-stream} response.
+ * <p>
+ * Contains:
+ * <ul>
+ *     <li><b>id</b>: The event id, sent back as {@code Last-Event-ID} to resume after a reconnect</li>
+ *     <li><b>event</b>: The event name</li>
+ *     <li><b>data</b>: The event payload, with multi-line data joined by {@code \n}</li>
+ * </ul>
+ */
+public record ServerSentEvent(String id, String event, String data) {}
@@ -0,0 +1,146 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.constants.CacheNames;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+
+/**
+ * Applies individual upstream changes to the employee caches, so they stay current without being dropped and
+ * refetched.
+ * <p>
+ * For each created or deleted employee:
+ * <ul>
+ *     <li>{@link CacheNames#EMPLOYEE_BY_ID} – the employee is put or evicted by id</li>
+ *     <li>{@link CacheNames#EMPLOYEES} – the cached list and its name and salary indexes are replaced with patched
+ *     copies, by {@link EmployeeSnapshotCache}</li>
+ *     <li>{@link CacheNames#TOP_SALARY} and {@link CacheNames#TOP_EARNING_EMPLOYEES} – re-read from the salary index
+ *     when cached, or evicted if there is no list to patch</li>
+ *     <li>{@link CacheNames#EMPLOYEES_BY_NAME_SEARCH} – a created employee evicts the searches matching its name, and
+ *     a deleted one the searches whose cached results include it, as recorded by
+ *     {@link EmployeeSearchReverseIndex}</li>
+ * </ul>
+ * <p>
+ * None of this makes an upstream request. Used both for changes made through {@link EmployeeService} and for those
+ * reported by the upstream change feed.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeCacheUpdater {
+
+    private final CacheManager cacheManager;
+    private final EmployeeSnapshotCache employeeSnapshotCache;
+    private final EmployeeSearchReverseIndex employeeSearchReverseIndex;
+    private final EmployeeSearchCacheEvictionService employeeSearchCacheEvictionService;
+
+    /**
+     * Adds a newly created employee to the caches.
+     *
+     * @param employee The created employee
+     */
+    public void applyCreated(final EmployeeResponse employee) {
+        withCache(CacheNames.EMPLOYEE_BY_ID, cache -> cache.put(employee.getId().toString(), employee));
+        refreshAggregates(employeeSnapshotCache.applyCreated(employee));
+        evictMatchingSearches(employee.getName());
+    }
+
+    /**
+     * Removes a deleted employee from the caches.
+     *
+     * @param employee The deleted employee
+     */
+    public void applyDeleted(final EmployeeResponse employee) {
+        withCache(
+                CacheNames.EMPLOYEE_BY_ID, cache -> cache.evict(employee.getId().toString()));
+        refreshAggregates(employeeSnapshotCache.applyDeleted(employee));
+        employeeSearchCacheEvictionService.evictEmployeeFragmentsByUUID(
+                employeeSearchReverseIndex.searchStringsFor(employee.getId()));
+    }
+
+    /**
+     * Removes one of several employees from the caches, for when upstream deleted one without saying which. Every
+     * candidate's lookup and searches are evicted, and the list and salary aggregates are dropped rather than patched,
+     * to be fetched again.
+     *
+     * @param candidates The employees that may have been deleted
+     */
+    public void applyDeletedOneOf(final List<EmployeeResponse> candidates) {
+        for (final var employee : candidates) {
+            if (employee.getId() == null) {
+                continue;
+            }
+            withCache(
+                    CacheNames.EMPLOYEE_BY_ID,
+                    cache -> cache.evict(employee.getId().toString()));
+            employeeSearchCacheEvictionService.evictEmployeeFragmentsByUUID(
+                    employeeSearchReverseIndex.searchStringsFor(employee.getId()));
+        }
+        withCache(CacheNames.EMPLOYEES, Cache::clear);
+        withCache(CacheNames.TOP_SALARY, Cache::clear);
+        withCache(CacheNames.TOP_EARNING_EMPLOYEES, Cache::clear);
+    }
+
+    /**
+     * Drops every employee cache, for when individual changes can no longer be applied.
+     */
+    public void invalidateAll() {
+        CacheNames.ALL.forEach(name -> withCache(name, Cache::clear));
+    }
+
+    /**
+     * Re-reads the salary aggregates from the patched list's index; the list is cached, so this does not load.
+     */
+    private void refreshAggregates(final List<EmployeeResponse> patched) {
+        refreshAggregate(CacheNames.TOP_SALARY, patched, employeeSnapshotCache::highestSalary);
+        refreshAggregate(
+                CacheNames.TOP_EARNING_EMPLOYEES,
+                patched,
+                () -> employeeSnapshotCache.topEarningNames(EmployeeService.TOP_EARNERS));
+    }
+
+    private void refreshAggregate(
+            final String name, final List<EmployeeResponse> patched, final Supplier<?> aggregate) {
+        withCache(name, cache -> {
+            if (patched == null) {
+                cache.evict(SimpleKey.EMPTY);
+            } else if (cache.get(SimpleKey.EMPTY) != null) {
+                cache.put(SimpleKey.EMPTY, aggregate.get());
+            }
+        });
+    }
+
+    /**
+     * Evicts the searches whose results would include an employee with this name, matching
+     * {@link EmployeeService#getEmployeesByNameSearch(String)}.
+     */
+    private void evictMatchingSearches(final String name) {
+        withCache(CacheNames.EMPLOYEES_BY_NAME_SEARCH, cache -> {
+            if (name == null || !(cache instanceof CaffeineCache caffeineCache)) {
+                cache.clear();
+                return;
+            }
+            final var lowerName = name.toLowerCase(Locale.ROOT);
+            caffeineCache
+                    .getNativeCache()
+                    .asMap()
+                    .keySet()
+                    .removeIf(key -> key instanceof String searchString
+                            && lowerName.contains(searchString.toLowerCase(Locale.ROOT)));
+        });
+    }
+
+    private void withCache(final String name, final Consumer<Cache> action) {
+        final var cache = cacheManager.getCache(name);
+        if (cache != null) {
+            action.accept(cache);
+        }
+    }
+}
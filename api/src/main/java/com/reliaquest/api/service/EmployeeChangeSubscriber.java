@@ -0,0 +1,115 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.ClientConfig;
+import com.reliaquest.api.model.response.EmployeeChangeEvent;
+import com.reliaquest.api.model.response.ServerSentEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the employee caches current by following the upstream change feed.
+ * <p>
+ * Runs on a background thread when {@link ClientConfig#isChangeFeedEnabled()} is set:
+ * <ul>
+ *     <li>Created and deleted employees are applied through {@link EmployeeCacheUpdater}</li>
+ *     <li>After a disconnect it reconnects with the last event id, so missed changes are replayed</li>
+ *     <li>Only a reset event, sent when missed changes can no longer be replayed, drops the caches</li>
+ * </ul>
+ * <p>
+ * Reconnects back off exponentially from {@link ClientConfig#getChangeFeedReconnectDelay()} up to
+ * {@link #MAX_RECONNECT_DELAY}.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class EmployeeChangeSubscriber {
+
+    private static final Duration MAX_RECONNECT_DELAY = Duration.ofSeconds(30);
+
+    private final EmployeeClient employeeClient;
+    private final EmployeeCacheUpdater employeeCacheUpdater;
+    private final ClientConfig clientConfig;
+    private final ObjectMapper objectMapper;
+
+    private volatile String lastEventId;
+    private volatile boolean received;
+    private volatile boolean running;
+    private Thread subscriber;
+
+    @PostConstruct
+    public void start() {
+        if (!clientConfig.isChangeFeedEnabled()) {
+            return;
+        }
+        running = true;
+        subscriber = new Thread(this::run, "employee-change-feed");
+        subscriber.setDaemon(true);
+        subscriber.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (subscriber != null) {
+            subscriber.interrupt();
+        }
+    }
+
+    private void run() {
+        final var initialDelay = clientConfig.getChangeFeedReconnectDelay();
+        var delay = initialDelay;
+        while (running) {
+            received = false;
+            try {
+                employeeClient.streamChanges(lastEventId, this::onEvent);
+                log.info("Change feed closed after event [{}]", lastEventId);
+            } catch (final RuntimeException exception) {
+                log.warn("Change feed failed after event [{}]: [{}]", lastEventId, exception.getMessage());
+            }
+            if (received) {
+                // The connection worked, so start backing off afresh
+                delay = initialDelay;
+            }
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delay = delay.multipliedBy(2).compareTo(MAX_RECONNECT_DELAY) > 0
+                    ? MAX_RECONNECT_DELAY
+                    : delay.multipliedBy(2);
+        }
+    }
+
+    /**
+     * Applies a single event from the change feed and records its id as the resume point.
+     *
+     * @param event The event as read from the feed
+     */
+    void onEvent(final ServerSentEvent event) {
+        received = true;
+        try {
+            final var change = objectMapper.readValue(event.data(), EmployeeChangeEvent.class);
+            switch (change.type()) {
+                case CREATED -> employeeCacheUpdater.applyCreated(change.employee());
+                case DELETED -> employeeCacheUpdater.applyDeleted(change.employee());
+                case RESET -> {
+                    log.info("Change feed reset at [{}], dropping employee caches", change.sequence());
+                    employeeCacheUpdater.invalidateAll();
+                }
+            }
+        } catch (final JsonProcessingException exception) {
+            // A change that cannot be applied leaves the caches in an unknown state
+            log.warn("Unreadable change [{}]: [{}]", event.id(), exception.getMessage());
+            employeeCacheUpdater.invalidateAll();
+        }
+        lastEventId = event.id();
+    }
+}
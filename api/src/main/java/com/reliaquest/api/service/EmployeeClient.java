@@ -1,21 +1,44 @@
 package com.reliaquest.api.service;
 
 import com.reliaquest.api.config.ClientConfig;
+import com.reliaquest.api.exception.UpstreamThrottledException;
 import com.reliaquest.api.model.request.CreateEmployeeRequest;
 import com.reliaquest.api.model.request.DeleteEmployeeRequest;
+import com.reliaquest.api.model.response.BatchItemResponse;
+import com.reliaquest.api.model.response.BatchResponseWrapper;
 import com.reliaquest.api.model.response.DeleteEmployeeResponseWrapper;
 import com.reliaquest.api.model.response.EmployeeResponse;
 import com.reliaquest.api.model.response.EmployeeResponseWrapper;
+import com.reliaquest.api.model.response.ServerSentEvent;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
@@ -25,14 +48,22 @@ import org.springframework.web.client.RestTemplate;
  * <p>
  * Provides methods to:
  * <ul>
- *     <li>Retrieve all employees via {@link #getAllEmployees()}</li>
+ *     <li>Retrieve all employees via {@link #getAllEmployees()}, optionally as concurrent pages (on virtual threads
+ *     when {@link ClientConfig#isVirtualThreads()} is set), revalidating the last
+ *     result with {@code If-None-Match} so an unchanged dataset is neither transferred nor parsed again</li>
  *     <li>Get an employee by ID via {@link #getEmployeeById(String)}</li>
  *     <li>Create a new employee via {@link #createEmployee(CreateEmployeeRequest)}</li>
  *     <li>Delete an employee by ID via {@link #deleteEmployeeById(String)}</li>
+ *     <li>Create or delete employees in bulk via {@link #createEmployees(List)} and
+ *     {@link #deleteEmployeesByName(List)}</li>
+ *     <li>Follow the upstream change feed via {@link #streamChanges(String, Consumer)}</li>
  * </ul>
  * <p>
- * Uses {@link RestTemplate} for HTTP requests and handles response mapping and error logging.
- * Wraps API Responses in {@link EmployeeResponseWrapper} for POST, and GET requests, {@link DeleteEmployeeResponseWrapper} for DELETE requests.
+ * Uses {@link RestTemplate} for HTTP requests and handles response mapping and error logging. Requests go through an
+ * {@link UpstreamGuard}, which retries throttled requests and fails fast while upstream is saturated; throttling is
+ * reported as {@link UpstreamThrottledException} rather than an empty result, so callers can tell it from "not found".
+ * Wraps API Responses in {@link EmployeeResponseWrapper} for POST, and GET requests,
+ * {@link DeleteEmployeeResponseWrapper} for DELETE requests, and {@link BatchResponseWrapper} for bulk requests.
  */
 @Log4j2
 @Component
@@ -40,34 +71,113 @@ import org.springframework.web.client.RestTemplate;
 public class EmployeeClient {
 
     private static final int FIRST = 0;
+    private static final String EMPTY = "";
     private static final String GET_EMPLOYEE_BY_ID = "/{id}";
+    private static final String GET_EMPLOYEE_PAGE = "?offset={offset}&limit={limit}";
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final String BATCH = "/batch";
+    private static final String CHANGES = "/changes";
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private static final String PAGE_FETCH_THREAD = "employee-page-fetch";
+    private static final int VIRTUAL_THREADS_SINCE = 21;
+    private static final ParameterizedTypeReference<BatchResponseWrapper<EmployeeResponse>> CREATE_BATCH_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<BatchResponseWrapper<Boolean>> DELETE_BATCH_RESPONSE =
+            new ParameterizedTypeReference<>() {};
 
     private final RestTemplateBuilder builder;
     private final ClientConfig clientConfig;
 
+    private final AtomicReference<TaggedEmployees> lastEmployees = new AtomicReference<>();
+
     private RestTemplate restClient;
+    private UpstreamGuard upstreamGuard;
+    private Executor pageExecutor;
 
     @PostConstruct
     public void setup() {
         restClient = builder.build();
+        upstreamGuard = new UpstreamGuard(clientConfig.getRetry(), clientConfig.getCircuitBreaker());
+        pageExecutor = pageExecutorFor(clientConfig);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pageExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        } else if (pageExecutor instanceof SimpleAsyncTaskExecutor taskExecutor) {
+            taskExecutor.close();
+        }
     }
 
     /**
-     * Gets all the employees
+     * A virtual thread per page when {@link ClientConfig#isVirtualThreads()} is set and the runtime supports them,
+     * otherwise a pool of daemon threads. Either way at most {@link ClientConfig#getMaxConcurrentPages()} pages are
+     * fetched at once: by the pool's size, or by throttling submissions, which parks the fetching thread until a page
+     * is done.
+     */
+    private static Executor pageExecutorFor(final ClientConfig clientConfig) {
+        final var maxConcurrentPages = Math.max(1, clientConfig.getMaxConcurrentPages());
+        if (clientConfig.isVirtualThreads()) {
+            if (Runtime.version().feature() >= VIRTUAL_THREADS_SINCE) {
+                final var executor = new SimpleAsyncTaskExecutor(PAGE_FETCH_THREAD + "-");
+                executor.setVirtualThreads(true);
+                executor.setConcurrencyLimit(maxConcurrentPages);
+                return executor;
+            }
+            log.warn(
+                    "Virtual threads need Java {}, fetching pages on platform threads on Java {}",
+                    VIRTUAL_THREADS_SINCE,
+                    Runtime.version().feature());
+        }
+        return Executors.newFixedThreadPool(maxConcurrentPages, runnable -> {
+            final var thread = new Thread(runnable, PAGE_FETCH_THREAD);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets all the employees, page by page when {@link ClientConfig#getPageSize()} is set.
      *
      * @return a list containing {@link EmployeeResponse}
+     * @throws UpstreamThrottledException if upstream is throttling requests or the circuit is open
      */
     public List<EmployeeResponse> getAllEmployees() {
 
+        if (clientConfig.getPageSize() > 0) {
+            return getAllEmployeesPaged(clientConfig.getPageSize());
+        }
+        return getAllEmployeesAtOnce();
+    }
+
+    /**
+     * Gets all the employees in a single request, revalidated against the last result.
+     *
+     * @return a list containing {@link EmployeeResponse}, or an empty list if the request fails
+     */
+    private List<EmployeeResponse> getAllEmployeesAtOnce() {
+
+        final var cached = lastEmployees.get();
         try {
-            final var apiResponse =
-                    restClient.exchange(clientConfig.getBaseUrl(), HttpMethod.GET, null, EmployeeResponseWrapper.class);
+            final var apiResponse = upstreamGuard.call(
+                    HttpMethod.GET,
+                    () -> restClient.exchange(
+                            clientConfig.getBaseUrl(),
+                            HttpMethod.GET,
+                            conditionalOn(cached),
+                            EmployeeResponseWrapper.class));
+            if (apiResponse.getStatusCode() == HttpStatus.NOT_MODIFIED && cached != null) {
+                log.debug("Employees unchanged since [{}]", cached.etag());
+                return cached.employees();
+            }
             final var responseBody = apiResponse.getBody();
             if (responseBody == null) {
                 log.warn("Missing request body");
                 return Collections.emptyList();
             }
 
+            remember(apiResponse.getHeaders().getETag(), responseBody.data());
             return responseBody.data();
         } catch (final RestClientException exception) {
             log.warn(exception.getMessage());
@@ -75,22 +185,122 @@ public class EmployeeClient {
         }
     }
 
+    /**
+     * Fetches the first page to learn the total size, then requests the remaining pages concurrently, with at most
+     * {@link ClientConfig#getMaxConcurrentPages()} requests in flight, and merges them in order.
+     * <p>
+     * The first page is revalidated against the last result, so an unchanged dataset costs a single 304. When a later
+     * page carries another ETag than the first, the dataset changed mid-fetch and the merged pages may repeat or miss
+     * employees, so they are discarded and the list is fetched again in a single request instead.
+     *
+     * @param pageSize the number of employees per page
+     * @return a list containing {@link EmployeeResponse}, or an empty list if any page fails
+     */
+    private List<EmployeeResponse> getAllEmployeesPaged(final int pageSize) {
+
+        final var cached = lastEmployees.get();
+        final List<CompletableFuture<ResponseEntity<EmployeeResponseWrapper>>> pages = new ArrayList<>();
+        try {
+            final var firstPage = getEmployeePage(FIRST, pageSize, conditionalOn(cached));
+            if (firstPage.getStatusCode() == HttpStatus.NOT_MODIFIED && cached != null) {
+                log.debug("Employees unchanged since [{}]", cached.etag());
+                return cached.employees();
+            }
+            final var firstEmployees = dataOf(firstPage);
+            final var totalCount = firstPage.getHeaders().getFirst(TOTAL_COUNT_HEADER);
+            final var total = totalCount == null ? firstEmployees.size() : Integer.parseInt(totalCount);
+
+            for (int offset = pageSize; offset < total; offset += pageSize) {
+                final var pageOffset = offset;
+                pages.add(CompletableFuture.supplyAsync(
+                        () -> getEmployeePage(pageOffset, pageSize, HttpEntity.EMPTY), pageExecutor));
+            }
+
+            final List<EmployeeResponse> employees = new ArrayList<>(Math.max(total, firstEmployees.size()));
+            employees.addAll(firstEmployees);
+            final var etag = firstPage.getHeaders().getETag();
+            var changed = false;
+            for (final var page : pages) {
+                final var response = page.join();
+                employees.addAll(dataOf(response));
+                changed |= etag != null && !etag.equals(response.getHeaders().getETag());
+            }
+            if (changed) {
+                log.debug("Employees changed while fetching [{}] pages, fetching them at once", pages.size() + 1);
+                return getAllEmployeesAtOnce();
+            }
+            remember(etag, employees);
+            log.debug("Fetched [{}] employees in [{}] pages", employees.size(), pages.size() + 1);
+            return employees;
+        } catch (final RestClientException | CompletionException | NumberFormatException exception) {
+            pages.forEach(page -> page.cancel(true));
+            if (exception.getCause() instanceof UpstreamThrottledException throttled) {
+                throw throttled;
+            }
+            log.warn(exception.getMessage());
+            return Collections.emptyList();
+        } catch (final UpstreamThrottledException exception) {
+            pages.forEach(page -> page.cancel(true));
+            throw exception;
+        }
+    }
+
+    private ResponseEntity<EmployeeResponseWrapper> getEmployeePage(
+            final int offset, final int limit, final HttpEntity<?> request) {
+        return upstreamGuard.call(
+                HttpMethod.GET,
+                () -> restClient.exchange(
+                        clientConfig.getBaseUrl() + GET_EMPLOYEE_PAGE,
+                        HttpMethod.GET,
+                        request,
+                        EmployeeResponseWrapper.class,
+                        offset,
+                        limit));
+    }
+
+    private static HttpEntity<?> conditionalOn(final TaggedEmployees cached) {
+        if (cached == null) {
+            return null;
+        }
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(cached.etag());
+        return new HttpEntity<>(headers);
+    }
+
+    /**
+     * Keeps the latest tagged result for revalidation; an untagged result clears it so a stale list is never reused.
+     */
+    private void remember(final String etag, final List<EmployeeResponse> employees) {
+        lastEmployees.set(etag == null || employees == null ? null : new TaggedEmployees(etag, employees));
+    }
+
+    private static List<EmployeeResponse> dataOf(final ResponseEntity<EmployeeResponseWrapper> response) {
+        final var responseBody = response.getBody();
+        if (responseBody == null || responseBody.data() == null) {
+            return Collections.emptyList();
+        }
+        return responseBody.data();
+    }
+
     /**
      * Gets an employee by their id
      *
      * @param id The employee id to fetch with.
      * @return the mapped {@link EmployeeResponse}
+     * @throws UpstreamThrottledException if upstream is throttling requests or the circuit is open
      */
     public EmployeeResponse getEmployeeById(final String id) {
 
         try {
 
-            final var apiResponse = restClient.exchange(
-                    clientConfig.getBaseUrl() + GET_EMPLOYEE_BY_ID,
+            final var apiResponse = upstreamGuard.call(
                     HttpMethod.GET,
-                    HttpEntity.EMPTY,
-                    EmployeeResponseWrapper.class,
-                    id);
+                    () -> restClient.exchange(
+                            clientConfig.getBaseUrl() + GET_EMPLOYEE_BY_ID,
+                            HttpMethod.GET,
+                            HttpEntity.EMPTY,
+                            EmployeeResponseWrapper.class,
+                            id));
             final var responseBody = apiResponse.getBody();
 
             if (responseBody == null) {
@@ -109,6 +319,7 @@ public class EmployeeClient {
      *
      * @param employeeInput The employee fields to create a new employee object with.
      * @return the {@link EmployeeResponse} if successful, otherwise default to {@link EmployeeResponse#BLANK}
+     * @throws UpstreamThrottledException if upstream is throttling requests or the circuit is open
      */
     public EmployeeResponse createEmployee(CreateEmployeeRequest employeeInput) {
 
@@ -118,8 +329,10 @@ public class EmployeeClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
 
             final HttpEntity<CreateEmployeeRequest> createEntity = new HttpEntity<>(employeeInput, headers);
-            final var apiResponse = restClient.exchange(
-                    clientConfig.getBaseUrl(), HttpMethod.POST, createEntity, EmployeeResponseWrapper.class);
+            final var apiResponse = upstreamGuard.call(
+                    HttpMethod.POST,
+                    () -> restClient.exchange(
+                            clientConfig.getBaseUrl(), HttpMethod.POST, createEntity, EmployeeResponseWrapper.class));
 
             final var responseBody = apiResponse.getBody();
             if (responseBody == null) {
@@ -138,6 +351,7 @@ public class EmployeeClient {
      *
      * @param employeeId The id for the employee object to delete
      * @return true if delete was successful, false otherwise
+     * @throws UpstreamThrottledException if upstream is throttling requests or the circuit is open
      */
     public boolean deleteEmployeeById(final String employeeId) {
 
@@ -149,8 +363,13 @@ public class EmployeeClient {
             final DeleteEmployeeRequest deleteEmployeeRequest = new DeleteEmployeeRequest(employeeId);
             final HttpEntity<DeleteEmployeeRequest> deleteEntity = new HttpEntity<>(deleteEmployeeRequest, headers);
 
-            final var apiResponse = restClient.exchange(
-                    clientConfig.getBaseUrl(), HttpMethod.DELETE, deleteEntity, DeleteEmployeeResponseWrapper.class);
+            final var apiResponse = upstreamGuard.call(
+                    HttpMethod.DELETE,
+                    () -> restClient.exchange(
+                            clientConfig.getBaseUrl(),
+                            HttpMethod.DELETE,
+                            deleteEntity,
+                            DeleteEmployeeResponseWrapper.class));
             final var responseBody = apiResponse.getBody();
             if (responseBody == null) {
                 return false;
@@ -162,4 +381,147 @@ public class EmployeeClient {
             return false;
         }
     }
+
+    /**
+     * Creates employees in bulk, forwarding them upstream in chunks of {@link ClientConfig#getBatchSize()}.
+     *
+     * @param employeeInputs The employees to create
+     * @return one {@link BatchItemResponse} per input, indexed by its position in {@code employeeInputs}
+     */
+    public List<BatchItemResponse<EmployeeResponse>> createEmployees(final List<CreateEmployeeRequest> employeeInputs) {
+        return sendInChunks(employeeInputs, HttpMethod.POST, CREATE_BATCH_RESPONSE);
+    }
+
+    /**
+     * Deletes employees in bulk, forwarding them upstream in chunks of {@link ClientConfig#getBatchSize()}.
+     *
+     * @param names The names (as ids) of the employees to delete
+     * @return one {@link BatchItemResponse} per name, with {@code data} true if that employee was deleted
+     */
+    public List<BatchItemResponse<Boolean>> deleteEmployeesByName(final List<String> names) {
+        final var deleteRequests =
+                names.stream().map(DeleteEmployeeRequest::new).toList();
+        return sendInChunks(deleteRequests, HttpMethod.DELETE, DELETE_BATCH_RESPONSE);
+    }
+
+    private <I, O> List<BatchItemResponse<O>> sendInChunks(
+            final List<I> inputs,
+            final HttpMethod method,
+            final ParameterizedTypeReference<BatchResponseWrapper<O>> responseType) {
+
+        final var chunkSize = clientConfig.getBatchSize() > 0 ? clientConfig.getBatchSize() : inputs.size();
+        final List<BatchItemResponse<O>> results = new ArrayList<>(inputs.size());
+        for (int offset = 0; offset < inputs.size(); offset += chunkSize) {
+            final var chunk = inputs.subList(offset, Math.min(inputs.size(), offset + chunkSize));
+            results.addAll(sendChunk(chunk, offset, method, responseType));
+        }
+        return results;
+    }
+
+    /**
+     * Sends a single chunk upstream. Failures are reported per item so the remaining chunks still go through.
+     */
+    private <I, O> List<BatchItemResponse<O>> sendChunk(
+            final List<I> chunk,
+            final int offset,
+            final HttpMethod method,
+            final ParameterizedTypeReference<BatchResponseWrapper<O>> responseType) {
+
+        try {
+
+            final HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+
+            final var apiResponse = upstreamGuard.call(
+                    method,
+                    () -> restClient.exchange(
+                            clientConfig.getBaseUrl() + BATCH, method, new HttpEntity<>(chunk, headers), responseType));
+            final var responseBody = apiResponse.getBody();
+            if (responseBody == null || responseBody.data() == null) {
+                log.warn("Missing request body");
+                return failedChunk(chunk.size(), offset, "Missing response body");
+            }
+
+            return responseBody.data().stream()
+                    .map(item -> new BatchItemResponse<>(offset + item.index(), item.data(), item.error()))
+                    .toList();
+        } catch (final RestClientException | UpstreamThrottledException exception) {
+            // Earlier chunks may already be applied upstream, so a throttled chunk is reported per item, not thrown
+            log.warn(exception.getMessage());
+            return failedChunk(chunk.size(), offset, exception.getMessage());
+        }
+    }
+
+    /**
+     * Reads the upstream change feed, blocking until the connection ends.
+     * <p>
+     * Unlike the other methods, failures are thrown rather than logged, so the caller decides when to reconnect.
+     *
+     * @param lastEventId The id of the last event received, or {@code null} to start from the current position
+     * @param listener    Receives every event in the order it was sent
+     * @throws RestClientException if the feed cannot be opened or the connection fails
+     */
+    public void streamChanges(final String lastEventId, final Consumer<ServerSentEvent> listener) {
+        restClient.execute(
+                clientConfig.getBaseUrl() + CHANGES,
+                HttpMethod.GET,
+                request -> {
+                    request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                    if (lastEventId != null) {
+                        request.getHeaders().set(LAST_EVENT_ID_HEADER, lastEventId);
+                    }
+                },
+                response -> {
+                    readEvents(response.getBody(), listener);
+                    return null;
+                });
+    }
+
+    /**
+     * Minimal {@code text/event-stream} parser: comments are skipped and, as in the SSE spec, the last seen id carries
+     * over to events that do not set their own.
+     */
+    private static void readEvents(final InputStream body, final Consumer<ServerSentEvent> listener)
+            throws IOException {
+
+        final var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String id = null;
+        String event = null;
+        StringBuilder data = null;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (line.isEmpty()) {
+                if (data != null) {
+                    listener.accept(new ServerSentEvent(id, event, data.toString()));
+                }
+                event = null;
+                data = null;
+                continue;
+            }
+            if (line.startsWith(":")) {
+                continue;
+            }
+            final var colon = line.indexOf(':');
+            final var field = colon < 0 ? line : line.substring(0, colon);
+            var value = colon < 0 ? EMPTY : line.substring(colon + 1);
+            if (value.startsWith(" ")) {
+                value = value.substring(1);
+            }
+            switch (field) {
+                case "id" -> id = value;
+                case "event" -> event = value;
+                case "data" -> data = data == null
+                        ? new StringBuilder(value)
+                        : data.append('\n').append(value);
+                default -> {}
+            }
+        }
+    }
+
+    private static <O> List<BatchItemResponse<O>> failedChunk(final int size, final int offset, final String error) {
+        return IntStream.range(0, size)
+                .mapToObj(index -> BatchItemResponse.<O>error(offset + index, error))
+                .toList();
+    }
+
+    private record TaggedEmployees(String etag, List<EmployeeResponse> employees) {}
 }
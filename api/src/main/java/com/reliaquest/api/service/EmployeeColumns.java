@@ -0,0 +1,463 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.request.EmployeeRanking;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Read-only columnar copy of an employee list, for aggregates over every employee.
+ * <p>
+ * Row {@code i} of every column describes employee {@code i} of the list:
+ * <ul>
+ *     <li>salaries and ages are {@code int[]} columns, so their aggregates are primitive loops that neither box nor
+ *     allocate</li>
+ *     <li>titles are dictionary-encoded: each distinct title gets a code, in order of first appearance, and the
+ *     {@code int[]} title column holds codes</li>
+ *     <li>{@link #employee(int)} leads from a row back to the employee</li>
+ * </ul>
+ * <p>
+ * Salary distributions ({@link #salaryPercentile(double)}, {@link #salaryHistogram(int)} and
+ * {@link #ageBands(int)}) and rankings ({@link #topRows(EmployeeRanking, int)}) are computed on first use and kept
+ * with the columns, so each is computed once per version of the list. Over {@value #PARALLEL_THRESHOLD} rows they are
+ * computed in parallel on the common fork-join pool, each task reducing a range of rows and merging with its sibling.
+ * <p>
+ * Never changed once built; a changed list gets new columns. Safe for concurrent use.
+ */
+final class EmployeeColumns {
+
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private static final String SORTED_SALARIES = "sortedSalaries";
+
+    private final List<EmployeeResponse> employees;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titles;
+    private final Map<Object, Object> distributions = new ConcurrentHashMap<>();
+
+    private EmployeeColumns(
+            final List<EmployeeResponse> employees,
+            final int[] salaries,
+            final int[] ages,
+            final int[] titleCodes,
+            final String[] titles) {
+        this.employees = employees;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.titles = titles;
+    }
+
+    /**
+     * Splits the employees into columns, in list order.
+     *
+     * @param employees The employees
+     * @return the columns
+     */
+    static EmployeeColumns of(final List<EmployeeResponse> employees) {
+        final var size = employees.size();
+        final var salaries = new int[size];
+        final var ages = new int[size];
+        final var titleCodes = new int[size];
+        final Map<String, Integer> codes = new HashMap<>();
+        final List<String> titles = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            final var employee = employees.get(row);
+            salaries[row] = employee.getSalary();
+            ages[row] = employee.getAge();
+            titleCodes[row] = codes.computeIfAbsent(employee.getTitle(), title -> {
+                titles.add(title);
+                return titles.size() - 1;
+            });
+        }
+        return new EmployeeColumns(employees, salaries, ages, titleCodes, titles.toArray(String[]::new));
+    }
+
+    /**
+     * @return the list the columns were built from
+     */
+    List<EmployeeResponse> employees() {
+        return employees;
+    }
+
+    /**
+     * @return the number of rows
+     */
+    int size() {
+        return salaries.length;
+    }
+
+    /**
+     * @param row The row
+     * @return the employee the row describes
+     */
+    EmployeeResponse employee(final int row) {
+        return employees.get(row);
+    }
+
+    /**
+     * @return the lowest salary, or 0 if there are no rows
+     */
+    int lowestSalary() {
+        return min(salaries);
+    }
+
+    /**
+     * @return the highest salary, or 0 if there are no rows
+     */
+    int highestSalary() {
+        return max(salaries);
+    }
+
+    /**
+     * @return the sum of every salary
+     */
+    long totalSalary() {
+        return sum(salaries);
+    }
+
+    /**
+     * @return the lowest age, or 0 if there are no rows
+     */
+    int youngestAge() {
+        return min(ages);
+    }
+
+    /**
+     * @return the highest age, or 0 if there are no rows
+     */
+    int oldestAge() {
+        return max(ages);
+    }
+
+    /**
+     * @return the sum of every age
+     */
+    long totalAge() {
+        return sum(ages);
+    }
+
+    /**
+     * @return the number of distinct titles
+     */
+    int titleCount() {
+        return titles.length;
+    }
+
+    /**
+     * @param code The title code
+     * @return the title with this code, possibly {@code null} for employees without one
+     */
+    String title(final int code) {
+        return titles[code];
+    }
+
+    /**
+     * @return the number of employees with each title, indexed by title code
+     */
+    int[] headcountByTitle() {
+        final var headcounts = new int[titles.length];
+        for (final var code : titleCodes) {
+            headcounts[code]++;
+        }
+        return headcounts;
+    }
+
+    /**
+     * Nearest-rank percentile of the salaries: the lowest salary at least {@code percentile}% of salaries are at or
+     * below.
+     *
+     * @param percentile The percentile, from 0 to 100; clamped into that range
+     * @return the salary, or 0 if there are no rows
+     */
+    int salaryPercentile(final double percentile) {
+        final var sorted = (int[]) distributions.computeIfAbsent(SORTED_SALARIES, key -> sortedSalaries());
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final var rank = (int) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * sorted.length);
+        return sorted[Math.max(1, rank) - 1];
+    }
+
+    /**
+     * Selects the top rows by a field, best first, with rows ranked equal in row order. Selection keeps a bounded heap
+     * of the best {@code k} rows seen, so it takes O(n log k) rather than sorting every row.
+     * <p>
+     * Only the longest ranking of each field is kept: the top {@code k} rows are the first {@code k} of any longer
+     * ranking, so a shorter one is a prefix of it.
+     *
+     * @param by The field to rank by
+     * @param k  The number of rows to return at most, at least 1
+     * @return the rows
+     */
+    int[] topRows(final EmployeeRanking by, final int k) {
+        final var ranked = (int[]) distributions.compute(
+                by,
+                (key, cached) -> cached != null && (((int[]) cached).length >= k || ((int[]) cached).length == size())
+                        ? cached
+                        : selectTop(by, k));
+        return ranked.length <= k ? ranked : Arrays.copyOf(ranked, k);
+    }
+
+    /**
+     * Selects the top rows by a field without consulting or filling the cache of rankings.
+     */
+    int[] selectTop(final EmployeeRanking by, final int k) {
+        final var values = by == EmployeeRanking.AGE ? ages : salaries;
+        return reduce((from, to) -> select(values, from, to, k), (left, right) -> merge(values, left, right, k));
+    }
+
+    /**
+     * Splits the salary range into equal buckets and counts the salaries in each.
+     *
+     * @param buckets The number of buckets, at least 1
+     * @return the histogram
+     */
+    Histogram salaryHistogram(final int buckets) {
+        return (Histogram) distributions.computeIfAbsent(new HistogramKey(buckets), key -> histogram(buckets));
+    }
+
+    /**
+     * Groups the employees into age bands and aggregates the salaries in each.
+     *
+     * @param width The number of years each band spans, at least 1
+     * @return the bands, youngest first
+     */
+    AgeBands ageBands(final int width) {
+        return (AgeBands) distributions.computeIfAbsent(new AgeBandsKey(width), key -> bands(width));
+    }
+
+    private int[] sortedSalaries() {
+        final var sorted = salaries.clone();
+        if (sorted.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSort(sorted);
+        } else {
+            Arrays.sort(sorted);
+        }
+        return sorted;
+    }
+
+    private Histogram histogram(final int buckets) {
+        final var lowest = lowestSalary();
+        // A long, as the range of an int column may not fit in an int
+        final var range = (long) highestSalary() - lowest + 1;
+        final var width = Math.max(1, (range + buckets - 1) / buckets);
+        final var headcounts = reduce(
+                (from, to) -> {
+                    final var counts = new int[buckets];
+                    for (int row = from; row < to; row++) {
+                        counts[(int) ((salaries[row] - (long) lowest) / width)]++;
+                    }
+                    return counts;
+                },
+                (left, right) -> {
+                    for (int bucket = 0; bucket < buckets; bucket++) {
+                        left[bucket] += right[bucket];
+                    }
+                    return left;
+                });
+        return new Histogram(lowest, width, headcounts);
+    }
+
+    private AgeBands bands(final int width) {
+        final var count = Math.max(0, oldestAge()) / width + 1;
+        return reduce(
+                (from, to) -> {
+                    final var bands = new AgeBands(width, new int[count], new int[count], new long[count]);
+                    Arrays.fill(bands.lowestSalaries(), Integer.MAX_VALUE);
+                    for (int row = from; row < to; row++) {
+                        final var band = Math.max(0, ages[row]) / width;
+                        bands.headcounts()[band]++;
+                        bands.lowestSalaries()[band] = Math.min(bands.lowestSalaries()[band], salaries[row]);
+                        bands.totalSalaries()[band] += salaries[row];
+                    }
+                    return bands;
+                },
+                (left, right) -> {
+                    for (int band = 0; band < count; band++) {
+                        left.headcounts()[band] += right.headcounts()[band];
+                        left.lowestSalaries()[band] =
+                                Math.min(left.lowestSalaries()[band], right.lowestSalaries()[band]);
+                        left.totalSalaries()[band] += right.totalSalaries()[band];
+                    }
+                    return left;
+                });
+    }
+
+    /**
+     * The best {@code k} of the rows from {@code from} to {@code to}, best first. The heap's root is the worst row
+     * kept, so a row that does not beat it is dropped in O(1).
+     */
+    private static int[] select(final int[] values, final int from, final int to, final int k) {
+        final var heap = new int[Math.min(k, to - from)];
+        var size = 0;
+        for (int row = from; row < to; row++) {
+            if (size < heap.length) {
+                heap[size] = row;
+                siftUp(values, heap, size++);
+            } else if (size > 0 && ranksAbove(values, row, heap[0])) {
+                heap[0] = row;
+                siftDown(values, heap, size);
+            }
+        }
+        final var ranked = new int[size];
+        for (int at = size - 1; at >= 0; at--) {
+            ranked[at] = heap[0];
+            heap[0] = heap[--size];
+            siftDown(values, heap, size);
+        }
+        return ranked;
+    }
+
+    /**
+     * The best {@code k} rows of two rankings, best first.
+     */
+    private static int[] merge(final int[] values, final int[] left, final int[] right, final int k) {
+        final var merged = new int[Math.min(k, left.length + right.length)];
+        int l = 0;
+        int r = 0;
+        for (int at = 0; at < merged.length; at++) {
+            merged[at] = r == right.length || (l < left.length && ranksAbove(values, left[l], right[r]))
+                    ? left[l++]
+                    : right[r++];
+        }
+        return merged;
+    }
+
+    private static boolean ranksAbove(final int[] values, final int row, final int other) {
+        return values[row] > values[other] || (values[row] == values[other] && row < other);
+    }
+
+    private static void siftUp(final int[] values, final int[] heap, int at) {
+        final var row = heap[at];
+        while (at > 0) {
+            final var parent = (at - 1) >>> 1;
+            if (!ranksAbove(values, heap[parent], row)) {
+                break;
+            }
+            heap[at] = heap[parent];
+            at = parent;
+        }
+        heap[at] = row;
+    }
+
+    private static void siftDown(final int[] values, final int[] heap, final int size) {
+        if (size == 0) {
+            return;
+        }
+        final var row = heap[0];
+        var at = 0;
+        while (true) {
+            var child = 2 * at + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && ranksAbove(values, heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!ranksAbove(values, row, heap[child])) {
+                break;
+            }
+            heap[at] = heap[child];
+            at = child;
+        }
+        heap[at] = row;
+    }
+
+    /**
+     * Reduces every row, splitting the rows across the common fork-join pool when there are enough of them.
+     */
+    private <A> A reduce(final RowReducer<A> reducer, final BinaryOperator<A> merge) {
+        if (size() < PARALLEL_THRESHOLD) {
+            return reducer.reduce(0, size());
+        }
+        return ForkJoinPool.commonPool().invoke(new RowTask<>(0, size(), reducer, merge));
+    }
+
+    /**
+     * Salary histogram: bucket {@code i} holds the salaries from {@code lowest + i * width}, inclusive, to
+     * {@code lowest + (i + 1) * width}, exclusive.
+     */
+    record Histogram(int lowest, long width, int[] headcounts) {}
+
+    /**
+     * Age bands: band {@code i} holds the ages from {@code i * width}, inclusive, to {@code (i + 1) * width},
+     * exclusive. A band without employees has a headcount of 0.
+     */
+    record AgeBands(int width, int[] headcounts, int[] lowestSalaries, long[] totalSalaries) {}
+
+    private record HistogramKey(int buckets) {}
+
+    private record AgeBandsKey(int width) {}
+
+    @FunctionalInterface
+    private interface RowReducer<A> {
+        A reduce(int from, int to);
+    }
+
+    private static final class RowTask<A> extends RecursiveTask<A> {
+
+        private final int from;
+        private final int to;
+        private final RowReducer<A> reducer;
+        private final BinaryOperator<A> merge;
+
+        private RowTask(final int from, final int to, final RowReducer<A> reducer, final BinaryOperator<A> merge) {
+            this.from = from;
+            this.to = to;
+            this.reducer = reducer;
+            this.merge = merge;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return reducer.reduce(from, to);
+            }
+            final var middle = (from + to) >>> 1;
+            final var left = new RowTask<>(from, middle, reducer, merge);
+            left.fork();
+            final var right = new RowTask<>(middle, to, reducer, merge).compute();
+            return merge.apply(left.join(), right);
+        }
+    }
+
+    private static int min(final int[] column) {
+        if (column.length == 0) {
+            return 0;
+        }
+        var min = column[0];
+        for (final var value : column) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    private static int max(final int[] column) {
+        if (column.length == 0) {
+            return 0;
+        }
+        var max = column[0];
+        for (final var value : column) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    private static long sum(final int[] column) {
+        long sum = 0;
+        for (final var value : column) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,275 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.response.EmployeeResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram inverted index over lowercased employee names, answering the same substring searches as a scan of the
+ * employee list.
+ * <p>
+ * Every employee gets an ordinal in list order, and every three-character sequence of its lowercased name lists that
+ * ordinal in a sorted posting list. A search:
+ * <ul>
+ *     <li>of three or more characters intersects the posting lists of its trigrams, smallest first, and confirms each
+ *     remaining candidate with {@link String#contains(CharSequence)}, since sharing every trigram does not make a
+ *     substring</li>
+ *     <li>of one or two characters has no trigram to look up, and scans the pre-lowercased names instead</li>
+ * </ul>
+ * Results keep list order. Employees added later get higher ordinals, so posting lists stay sorted by appending;
+ * removed employees leave an empty ordinal behind until the index is rebuilt from a fresh list.
+ * <p>
+ * Safe for concurrent use: searches share a read lock, changes take the write lock. {@link #copy()} lets a changed
+ * index be built alongside one that is still being searched.
+ */
+class EmployeeNameIndex {
+
+    private static final int GRAM = 3;
+
+    private final List<EmployeeResponse> employees = new ArrayList<>();
+    private final List<String> lowerNames = new ArrayList<>();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexes the employees in list order.
+     *
+     * @param employees The employees to index
+     * @return the index
+     */
+    static EmployeeNameIndex of(final List<EmployeeResponse> employees) {
+        final var index = new EmployeeNameIndex();
+        employees.forEach(index::append);
+        return index;
+    }
+
+    /**
+     * Adds an employee after every indexed one, replacing an indexed employee with the same id.
+     *
+     * @param employee The employee to add
+     */
+    void add(final EmployeeResponse employee) {
+        lock.writeLock().lock();
+        try {
+            unindex(employee.getId());
+            append(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Copies the index, so the copy can be changed while readers still query this one.
+     *
+     * @return an index of the same employees, with the same ordinals
+     */
+    EmployeeNameIndex copy() {
+        lock.readLock().lock();
+        try {
+            final var copy = new EmployeeNameIndex();
+            copy.employees.addAll(employees);
+            copy.lowerNames.addAll(lowerNames);
+            copy.ordinals.putAll(ordinals);
+            postings.forEach((gram, list) -> copy.postings.put(gram, list.copy()));
+            return copy;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the employee with the given id, if indexed.
+     *
+     * @param id The employee id
+     */
+    void remove(final UUID id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the employees whose name contains the search string, ignoring case.
+     *
+     * @param searchString The search string
+     * @return the matching employees, in list order
+     */
+    List<EmployeeResponse> search(final String searchString) {
+        final var lowerSearchStr = searchString.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            if (lowerSearchStr.length() < GRAM) {
+                return scan(lowerSearchStr);
+            }
+            final var candidates = candidates(lowerSearchStr);
+            final List<EmployeeResponse> matched = new ArrayList<>(candidates.length);
+            for (final var ordinal : candidates) {
+                if (lowerNames.get(ordinal).contains(lowerSearchStr)) {
+                    matched.add(employees.get(ordinal));
+                }
+            }
+            return matched;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of indexed employees
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<EmployeeResponse> scan(final String lowerSearchStr) {
+        final List<EmployeeResponse> matched = new ArrayList<>();
+        for (int ordinal = 0; ordinal < employees.size(); ordinal++) {
+            final var lowerName = lowerNames.get(ordinal);
+            if (lowerName != null && lowerName.contains(lowerSearchStr)) {
+                matched.add(employees.get(ordinal));
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Intersects the posting lists of every distinct trigram, smallest first, so the candidates only shrink.
+     */
+    private int[] candidates(final String lowerSearchStr) {
+        final List<Postings> lists = new ArrayList<>();
+        for (final var gram : grams(lowerSearchStr)) {
+            final var list = postings.get(gram);
+            if (list == null || list.size == 0) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        var candidates = Arrays.copyOf(lists.get(0).ordinals, lists.get(0).size);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = lists.get(i).retain(candidates);
+        }
+        return candidates;
+    }
+
+    private void append(final EmployeeResponse employee) {
+        final var ordinal = employees.size();
+        final var lowerName =
+                employee.getName() == null ? null : employee.getName().toLowerCase(Locale.ROOT);
+        employees.add(employee);
+        lowerNames.add(lowerName);
+        if (employee.getId() != null) {
+            ordinals.put(employee.getId(), ordinal);
+        }
+        if (lowerName != null) {
+            for (final var gram : grams(lowerName)) {
+                postings.computeIfAbsent(gram, key -> new Postings()).append(ordinal);
+            }
+        }
+    }
+
+    private void unindex(final UUID id) {
+        final var ordinal = id == null ? null : ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        final var lowerName = lowerNames.get(ordinal);
+        if (lowerName != null) {
+            for (final var gram : grams(lowerName)) {
+                final var list = postings.get(gram);
+                list.remove(ordinal);
+                if (list.size == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        employees.set(ordinal, null);
+        lowerNames.set(ordinal, null);
+    }
+
+    /**
+     * Distinct trigrams of the string, each packed as three 16-bit chars.
+     */
+    private static long[] grams(final String lowerName) {
+        if (lowerName.length() < GRAM) {
+            return new long[0];
+        }
+        final var grams = new long[lowerName.length() - GRAM + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) lowerName.charAt(i) << 32)
+                    | ((long) lowerName.charAt(i + 1) << 16)
+                    | lowerName.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    /**
+     * Sorted, growable list of ordinals.
+     */
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void append(final int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        Postings copy() {
+            final var copy = new Postings();
+            copy.ordinals = Arrays.copyOf(ordinals, ordinals.length);
+            copy.size = size;
+            return copy;
+        }
+
+        void remove(final int ordinal) {
+            final var at = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (at >= 0) {
+                System.arraycopy(ordinals, at + 1, ordinals, at, size - at - 1);
+                size--;
+            }
+        }
+
+        /**
+         * @return the given sorted ordinals that are also in this list
+         */
+        int[] retain(final int[] candidates) {
+            final var retained = new int[Math.min(candidates.length, size)];
+            int count = 0;
+            int from = 0;
+            for (final var candidate : candidates) {
+                final var at = Arrays.binarySearch(ordinals, from, size, candidate);
+                if (at >= 0) {
+                    retained[count++] = candidate;
+                    from = at + 1;
+                } else {
+                    from = -at - 1;
+                }
+                if (from == size) {
+                    break;
+                }
+            }
+            return Arrays.copyOf(retained, count);
+        }
+    }
+}
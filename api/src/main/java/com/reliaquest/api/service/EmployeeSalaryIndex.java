@@ -0,0 +1,154 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.response.EmployeeResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Employees ordered by salary, highest first, answering the salary queries without sorting the employee list.
+ * <p>
+ * Every employee gets an ordinal in list order, and employees with the same salary keep that order, matching a stable
+ * sort of the list. Employees added later get higher ordinals, as a patched list appends them.
+ * <ul>
+ *     <li>{@link #add(EmployeeResponse)} and {@link #remove(UUID)} take O(log n)</li>
+ *     <li>{@link #highestSalary()} takes O(log n), and {@link #topEarningNames(int)} O(log n + k)</li>
+ *     <li>{@link #copy()} takes O(n), without comparing any salaries</li>
+ * </ul>
+ * <p>
+ * Safe for concurrent use: queries share a read lock, changes take the write lock.
+ */
+class EmployeeSalaryIndex {
+
+    private static final Comparator<Ranked> BY_SALARY_DESCENDING =
+            Comparator.comparingInt(Ranked::salary).reversed().thenComparingLong(Ranked::ordinal);
+
+    private final TreeSet<Ranked> ranked = new TreeSet<>(BY_SALARY_DESCENDING);
+    private final Map<UUID, Ranked> byId = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long nextOrdinal;
+
+    /**
+     * Indexes the employees in list order.
+     *
+     * @param employees The employees to index
+     * @return the index
+     */
+    static EmployeeSalaryIndex of(final List<EmployeeResponse> employees) {
+        final var index = new EmployeeSalaryIndex();
+        employees.forEach(index::append);
+        return index;
+    }
+
+    /**
+     * Adds an employee after every indexed one, replacing an indexed employee with the same id.
+     *
+     * @param employee The employee to add
+     */
+    void add(final EmployeeResponse employee) {
+        lock.writeLock().lock();
+        try {
+            unindex(employee.getId());
+            append(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Copies the index, so the copy can be changed while readers still query this one.
+     *
+     * @return an index of the same employees, with the same ordinals
+     */
+    EmployeeSalaryIndex copy() {
+        lock.readLock().lock();
+        try {
+            final var copy = new EmployeeSalaryIndex();
+            // Linear, as both sets share the comparator
+            copy.ranked.addAll(ranked);
+            copy.byId.putAll(byId);
+            copy.nextOrdinal = nextOrdinal;
+            return copy;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the employee with the given id, if indexed.
+     *
+     * @param id The employee id
+     */
+    void remove(final UUID id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the highest salary, or 0 if no employee is indexed
+     */
+    int highestSalary() {
+        lock.readLock().lock();
+        try {
+            return ranked.isEmpty() ? 0 : ranked.first().salary();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param limit The number of names to return at most
+     * @return the names of the highest earning employees, highest first
+     */
+    List<String> topEarningNames(final int limit) {
+        lock.readLock().lock();
+        try {
+            final List<String> names = new ArrayList<>(Math.min(limit, ranked.size()));
+            final var iterator = ranked.iterator();
+            while (names.size() < limit && iterator.hasNext()) {
+                names.add(iterator.next().employee().getName());
+            }
+            return names;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of indexed employees
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ranked.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void append(final EmployeeResponse employee) {
+        final var entry = new Ranked(employee.getSalary(), nextOrdinal++, employee);
+        ranked.add(entry);
+        if (employee.getId() != null) {
+            byId.put(employee.getId(), entry);
+        }
+    }
+
+    private void unindex(final UUID id) {
+        final var entry = id == null ? null : byId.remove(id);
+        if (entry != null) {
+            ranked.remove(entry);
+        }
+    }
+
+    private record Ranked(int salary, long ordinal, EmployeeResponse employee) {}
+}
@@ -0,0 +1,97 @@
+package com.reliaquest.api.service;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.reliaquest.api.constants.CacheNames;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reverse index from each employee to the cached searches whose results include them, so deleting an employee only
+ * evicts those entries of {@link CacheNames#EMPLOYEES_BY_NAME_SEARCH} rather than the whole cache.
+ * <p>
+ * The index only ever describes what the search cache holds:
+ * <ul>
+ *     <li>{@link #record(String, Collection)} adds a search when its result is computed, just before it is cached</li>
+ *     <li>as the search cache's removal listener, it drops a search again however the entry leaves the cache:
+ *     evicted by size, expired, evicted explicitly or cleared</li>
+ *     <li>an employee left with no cached searches is dropped entirely</li>
+ * </ul>
+ * Each pair remembers the result list it was recorded with, which is the instance the search cache holds. A removal
+ * only drops pairs still pointing at the removed list, so a search that was evicted and cached again before the
+ * (asynchronous) removal listener ran, or replaced by a concurrent miss, keeps its pairs. Pairs are updated
+ * atomically per employee through {@link ConcurrentHashMap#compute}, so a search recorded while another one is
+ * removed is never lost with an emptied map.
+ */
+@Component
+public class EmployeeSearchReverseIndex implements RemovalListener<Object, Object> {
+
+    private final ConcurrentHashMap<UUID, Map<String, Object>> searchStringsByEmployee = new ConcurrentHashMap<>();
+
+    /**
+     * Records the employees a search matched.
+     *
+     * @param searchString The search string, as the search cache's key
+     * @param matched      The employees it matched, as the search cache's value
+     */
+    public void record(final String searchString, final Collection<EmployeeResponse> matched) {
+        for (final var employee : matched) {
+            if (employee.getId() == null) {
+                continue;
+            }
+            searchStringsByEmployee.compute(employee.getId(), (id, searchStrings) -> {
+                final var updated = searchStrings == null ? new ConcurrentHashMap<String, Object>() : searchStrings;
+                updated.put(searchString, matched);
+                return updated;
+            });
+        }
+    }
+
+    /**
+     * @param id The employee id
+     * @return the cached searches whose results include the employee
+     */
+    public Set<String> searchStringsFor(final UUID id) {
+        final var searchStrings = searchStringsByEmployee.get(id);
+        return searchStrings == null ? Set.of() : Set.copyOf(searchStrings.keySet());
+    }
+
+    /**
+     * Drops a search that left the search cache, unless it was recorded again with another result since.
+     */
+    @Override
+    public void onRemoval(final Object key, final Object value, final RemovalCause cause) {
+        if (!(key instanceof String searchString) || !(value instanceof Collection<?> matched)) {
+            return;
+        }
+        for (final var employee : matched) {
+            if (employee instanceof EmployeeResponse response && response.getId() != null) {
+                searchStringsByEmployee.computeIfPresent(response.getId(), (id, searchStrings) -> {
+                    // By identity: the same search cached again holds an equal but distinct list
+                    searchStrings.computeIfPresent(
+                            searchString, (search, recorded) -> recorded == value ? null : recorded);
+                    return searchStrings.isEmpty() ? null : searchStrings;
+                });
+            }
+        }
+    }
+
+    /**
+     * @return the number of employees with at least one cached search
+     */
+    int employees() {
+        return searchStringsByEmployee.size();
+    }
+
+    /**
+     * @return the number of employee and search pairs held
+     */
+    long mappings() {
+        return searchStringsByEmployee.values().stream().mapToLong(Map::size).sum();
+    }
+}
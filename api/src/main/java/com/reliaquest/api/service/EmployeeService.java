@@ -2,18 +2,21 @@ package com.reliaquest.api.service;
 
 import com.reliaquest.api.constants.CacheNames;
 import com.reliaquest.api.model.request.CreateEmployeeRequest;
+import com.reliaquest.api.model.request.EmployeeRanking;
+import com.reliaquest.api.model.response.AgeBandResponse;
+import com.reliaquest.api.model.response.BatchItemResponse;
 import com.reliaquest.api.model.response.EmployeeResponse;
+import com.reliaquest.api.model.response.EmployeeStatsResponse;
+import com.reliaquest.api.model.response.SalaryHistogramBucketResponse;
+import com.reliaquest.api.model.response.SalaryPercentileResponse;
 import com.reliaquest.api.util.UuidValidator;
 import jakarta.annotation.PostConstruct;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
@@ -27,8 +30,12 @@ import org.springframework.stereotype.Service;
  *     <li>Get an employee by ID</li>
  *     <li>Get the highest salary among employees</li>
  *     <li>List the top ten highest earning employee names</li>
+ *     <li>Aggregate salaries, ages and titles over every employee</li>
+ *     <li>Compute salary percentiles, salary histograms and salaries by age band</li>
+ *     <li>List the top employees by salary or age</li>
  *     <li>Create a new employee</li>
  *     <li>Delete an employee by ID</li>
+ *     <li>Create or delete employees in bulk</li>
  * </ul>
  * <p>
  * Uses {@link EmployeeClient} for API calls and uses Caffeine-based Spring Caching.
@@ -39,11 +46,12 @@ import org.springframework.stereotype.Service;
 public class EmployeeService {
 
     private static final String EMPTY = "";
-    private static final int TEN = 10;
-    private static final int NO_SALARY = 0;
+    static final int TOP_EARNERS = 10;
     private final EmployeeClient employeeClient;
-    private final EmployeeSearchCacheEvictionService employeeSearchCacheEvictionService;
-    private final ConcurrentHashMap<UUID, Set<String>> employeeToSearchStrings = new ConcurrentHashMap<>();
+    private final EmployeeSnapshotCache employeeSnapshotCache;
+    private final EmployeeSearchReverseIndex employeeSearchReverseIndex;
+    private final EmployeeCacheUpdater employeeCacheUpdater;
+    private final CacheManager cacheManager;
 
     /**
      * Attempts to warm {@link CacheNames#EMPLOYEES} on startup
@@ -60,33 +68,28 @@ public class EmployeeService {
     }
 
     /**
-     * Gets all the employees.
+     * Gets all the employees from {@link CacheNames#EMPLOYEES}. Concurrent misses share a single upstream request,
+     * including the ones made internally by searches and salary queries.
      *
      * @return a collection containing all employees.
      */
-    @Cacheable(value = CacheNames.EMPLOYEES, unless = "#result == null || #result.isEmpty()")
     public List<EmployeeResponse> getAllEmployees() {
-        return this.employeeClient.getAllEmployees();
+        return this.employeeSnapshotCache.get();
     }
 
     /**
-     * Gets employees matching the search string.
+     * Gets employees whose name contains the search string, ignoring case. Resolved through the trigram index of
+     * {@link CacheNames#EMPLOYEES} rather than a scan of every name.
      *
      * @param searchString the search string to match on
      * @return the collection of {@link EmployeeResponse} that matched the search string.
      */
     @Cacheable(CacheNames.EMPLOYEES_BY_NAME_SEARCH)
     public List<EmployeeResponse> getEmployeesByNameSearch(final String searchString) {
-        final var lowerSearchStr = searchString.toLowerCase();
-        final var matchedEmployees = getAllEmployees().stream()
-                .filter(employee -> employee.getName().toLowerCase().contains(lowerSearchStr))
-                .toList();
+        final var matchedEmployees = employeeSnapshotCache.searchByName(searchString);
 
         // Build reverse index to evict entries more efficiently than dropping entire cache
-        for (final var employee : matchedEmployees) {
-            employeeToSearchStrings.putIfAbsent(employee.getId(), ConcurrentHashMap.newKeySet());
-            employeeToSearchStrings.get(employee.getId()).add(searchString);
-        }
+        employeeSearchReverseIndex.record(searchString, matchedEmployees);
         return matchedEmployees;
     }
 
@@ -107,104 +110,243 @@ public class EmployeeService {
     }
 
     /**
-     * Returns the highest salary of employees.
+     * Returns the highest salary of employees, read from the salary index of {@link CacheNames#EMPLOYEES}.
      *
      * @return the highest employee salary, or 0 if no employee entries are present.
      */
     @Cacheable(value = CacheNames.TOP_SALARY, unless = "#result == 0")
     public Integer getHighestSalaryOfEmployees() {
 
-        return getAllEmployees().stream()
-                .map(EmployeeResponse::getSalary)
-                .max(Integer::compareTo)
-                .orElse(NO_SALARY);
+        return employeeSnapshotCache.highestSalary();
     }
 
     /**
-     * Queries the top ten earning employees, and returns their names.
+     * Queries the top ten earning employees, and returns their names. Read from the salary index of
+     * {@link CacheNames#EMPLOYEES} rather than by sorting every employee.
      *
      * @return a collection of the top ten earning employee's names
      */
     @Cacheable(value = CacheNames.TOP_EARNING_EMPLOYEES, unless = "#result == null || #result.isEmpty()")
     public List<String> getTopTenHighestEarningEmployeeNames() {
 
-        return getAllEmployees().stream()
-                .sorted(Comparator.comparingInt(EmployeeResponse::getSalary).reversed())
-                .map(EmployeeResponse::getName)
-                .limit(TEN)
-                .collect(Collectors.toList());
+        return employeeSnapshotCache.topEarningNames(TOP_EARNERS);
+    }
+
+    /**
+     * Aggregates salaries, ages and titles over every employee, from the columns of {@link CacheNames#EMPLOYEES}
+     * rather than by streaming over the employee objects.
+     *
+     * @return the aggregates
+     */
+    public EmployeeStatsResponse getEmployeeStats() {
+        final var columns = employeeSnapshotCache.columns();
+        final var headcount = columns.size();
+        final var headcounts = columns.headcountByTitle();
+        final Map<String, Integer> headcountByTitle = new LinkedHashMap<>();
+        for (int code = 0; code < headcounts.length; code++) {
+            final var title = columns.title(code);
+            if (title != null) {
+                headcountByTitle.put(title, headcounts[code]);
+            }
+        }
+        return new EmployeeStatsResponse(
+                headcount,
+                columns.lowestSalary(),
+                columns.highestSalary(),
+                headcount == 0 ? 0 : (double) columns.totalSalary() / headcount,
+                columns.totalSalary(),
+                columns.youngestAge(),
+                columns.oldestAge(),
+                headcount == 0 ? 0 : (double) columns.totalAge() / headcount,
+                headcountByTitle);
+    }
+
+    /**
+     * Computes salary percentiles over every employee, by nearest rank. Each version of {@link CacheNames#EMPLOYEES}
+     * is sorted once, after which every percentile is a lookup.
+     *
+     * @param percentiles The percentiles, from 0 to 100
+     * @return one {@link SalaryPercentileResponse} per percentile, in the order requested
+     */
+    public List<SalaryPercentileResponse> getSalaryPercentiles(final List<Double> percentiles) {
+        final var columns = employeeSnapshotCache.columns();
+        return percentiles.stream()
+                .map(percentile -> new SalaryPercentileResponse(percentile, columns.salaryPercentile(percentile)))
+                .toList();
     }
 
     /**
-     * Creates a new employee, and adds it to the cache via the id of the {@link EmployeeResponse}. Invalidates salary-based queries as the new employee could be present for the new results.
+     * Splits the salary range into equal buckets and counts the employees in each. Computed once per version of
+     * {@link CacheNames#EMPLOYEES} and bucket count.
+     *
+     * @param buckets The number of buckets
+     * @return the buckets, lowest salaries first
+     */
+    public List<SalaryHistogramBucketResponse> getSalaryHistogram(final int buckets) {
+        final var histogram = employeeSnapshotCache.columns().salaryHistogram(buckets);
+        final List<SalaryHistogramBucketResponse> response = new ArrayList<>(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            final var from = histogram.lowest() + bucket * histogram.width();
+            response.add(new SalaryHistogramBucketResponse(
+                    from, from + histogram.width(), histogram.headcounts()[bucket]));
+        }
+        return response;
+    }
+
+    /**
+     * Groups the employees into age bands, and gives the lowest and average salary of each. Computed once per version
+     * of {@link CacheNames#EMPLOYEES} and band width.
+     *
+     * @param width The number of years each band spans
+     * @return the bands with at least one employee, youngest first
+     */
+    public List<AgeBandResponse> getAgeBands(final int width) {
+        final var bands = employeeSnapshotCache.columns().ageBands(width);
+        final List<AgeBandResponse> response = new ArrayList<>();
+        for (int band = 0; band < bands.headcounts().length; band++) {
+            final var headcount = bands.headcounts()[band];
+            if (headcount > 0) {
+                response.add(new AgeBandResponse(
+                        band * width,
+                        (band + 1) * width,
+                        headcount,
+                        bands.lowestSalaries()[band],
+                        (double) bands.totalSalaries()[band] / headcount));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Gets the top employees by a field, best first. Selected from the columns of {@link CacheNames#EMPLOYEES} with a
+     * bounded heap, and kept until the list changes.
+     *
+     * @param k  The number of employees to return at most
+     * @param by The field to rank by
+     * @return the top employees
+     */
+    public List<EmployeeResponse> getTopEmployees(final int k, final EmployeeRanking by) {
+        final var columns = employeeSnapshotCache.columns();
+        final var rows = columns.topRows(by, k);
+        final List<EmployeeResponse> top = new ArrayList<>(rows.length);
+        for (final var row : rows) {
+            top.add(columns.employee(row));
+        }
+        return top;
+    }
+
+    /**
+     * Creates a new employee, and adds it to the caches through {@link EmployeeCacheUpdater}: it is cached by id,
+     * added to the cached list and its indexes, the salary-based queries are updated rather than invalidated, and only
+     * the searches matching its name are evicted.
      *
      * @param employeeInput The employee object to create
      * @return a {@link EmployeeResponse}.
      */
-    @Caching(
-            put =
-                    @CachePut(
-                            value = {CacheNames.EMPLOYEE_BY_ID},
-                            key = "#result.id",
-                            condition = "#result != null && #result.id != null"),
-            evict =
-                    @CacheEvict(
-                            value = {
-                                CacheNames.EMPLOYEES,
-                                CacheNames.TOP_SALARY,
-                                CacheNames.TOP_EARNING_EMPLOYEES,
-                                CacheNames.EMPLOYEES_BY_NAME_SEARCH
-                            },
-                            allEntries = true))
     public EmployeeResponse createEmployee(CreateEmployeeRequest employeeInput) {
-        return employeeClient.createEmployee(employeeInput);
+        final var created = employeeClient.createEmployee(employeeInput);
+        if (created != null && created.getId() != null) {
+            employeeCacheUpdater.applyCreated(created);
+        }
+        return created;
     }
 
     /**
-     * Deletes the employee specified by the provided name as id.
+     * Deletes the employee specified by the provided name as id, which upstream matches against whole names, ignoring
+     * case.
      * <p>
-     * Invalidates {@link CacheNames#EMPLOYEE_BY_ID}, {@link CacheNames#EMPLOYEES}, {@link CacheNames#TOP_SALARY}, {@link CacheNames#TOP_EARNING_EMPLOYEES},
-     * and specific {@link CacheNames#EMPLOYEES_BY_NAME_SEARCH} entries using {@link EmployeeService#employeeToSearchStrings} & {@link EmployeeSearchCacheEvictionService}.
+     * Removes it from the caches through {@link EmployeeCacheUpdater}: {@link CacheNames#EMPLOYEE_BY_ID} is evicted,
+     * {@link CacheNames#EMPLOYEES} and its indexes are patched, {@link CacheNames#TOP_SALARY} and
+     * {@link CacheNames#TOP_EARNING_EMPLOYEES} are updated, and only the {@link CacheNames#EMPLOYEES_BY_NAME_SEARCH}
+     * entries recorded by {@link EmployeeSearchReverseIndex} are evicted. When several cached employees have the
+     * name, the list and its aggregates are invalidated instead, as it is unknown which one upstream deleted.
      * </p>
      *
      * @param name The name as the id for the employee object to delete
      * @return the name of the employee deleted or if not present, {@link #EMPTY} otherwise
      */
-    @Caching(
-            evict = {
-                @CacheEvict(
-                        value = {CacheNames.EMPLOYEE_BY_ID},
-                        key = "#employee.id",
-                        condition = "#employee != null"),
-                @CacheEvict(
-                        value = {
-                            CacheNames.EMPLOYEES,
-                            CacheNames.TOP_SALARY,
-                            CacheNames.TOP_EARNING_EMPLOYEES,
-                        },
-                        allEntries = true)
-            })
     public String deleteEmployeeById(String name) {
 
-        final var matchedEmployees = getEmployeesByNameSearch(name);
+        // Straight to the index: a self-invocation skips the search cache, so it must not be recorded as cached.
+        // Upstream only deletes an employee whose whole name matches, ignoring case
+        final var matchedEmployees = employeeSnapshotCache.searchByName(name).stream()
+                .filter(employee -> employee != null && name.equalsIgnoreCase(employee.getName()))
+                .toList();
         if (matchedEmployees.isEmpty()) {
             return EMPTY;
         }
 
-        final var employee = matchedEmployees.get(0);
-        if (employee == null) {
-            return EMPTY;
-        }
-
         final var deleted = employeeClient.deleteEmployeeById(name);
         if (!deleted) {
             return EMPTY;
         }
 
-        // Evict specific cached search entries attached to the employee being deleted
-        final Set<String> searchStringsToEvict =
-                employeeToSearchStrings.getOrDefault(employee.getId(), Collections.emptySet());
-        employeeSearchCacheEvictionService.evictEmployeeFragmentsByUUID(searchStringsToEvict);
+        final var employee = matchedEmployees.get(0);
+        if (matchedEmployees.size() == 1 && employee.getId() != null) {
+            employeeCacheUpdater.applyDeleted(employee);
+        } else {
+            // Upstream deleted one of several employees with this name, without saying which
+            employeeCacheUpdater.applyDeletedOneOf(matchedEmployees);
+        }
         return name;
     }
+
+    /**
+     * Creates employees in bulk. Created employees are cached by id, and the list, salary and search caches are
+     * invalidated once for the whole batch rather than once per employee.
+     *
+     * @param employeeInputs The employee objects to create
+     * @return one {@link BatchItemResponse} per input, in submission order
+     */
+    @CacheEvict(
+            value = {
+                CacheNames.EMPLOYEES,
+                CacheNames.TOP_SALARY,
+                CacheNames.TOP_EARNING_EMPLOYEES,
+                CacheNames.EMPLOYEES_BY_NAME_SEARCH
+            },
+            allEntries = true)
+    public List<BatchItemResponse<EmployeeResponse>> createEmployees(final List<CreateEmployeeRequest> employeeInputs) {
+        final var results = employeeClient.createEmployees(employeeInputs);
+
+        final var employeeByIdCache = cacheManager.getCache(CacheNames.EMPLOYEE_BY_ID);
+        if (employeeByIdCache != null) {
+            results.stream()
+                    .map(BatchItemResponse::data)
+                    .filter(employee -> employee != null && employee.getId() != null)
+                    .forEach(employee -> employeeByIdCache.put(employee.getId().toString(), employee));
+        }
+        log.debug(
+                "Created [{}] of [{}] employees",
+                results.stream().filter(result -> result.data() != null).count(),
+                results.size());
+        return results;
+    }
+
+    /**
+     * Deletes employees in bulk by name as id. Every employee cache is invalidated once for the whole batch.
+     *
+     * @param names The names as the ids for the employee objects to delete
+     * @return one {@link BatchItemResponse} per name, carrying the name if it was deleted or an error otherwise
+     */
+    @CacheEvict(
+            value = {
+                CacheNames.EMPLOYEE_BY_ID,
+                CacheNames.EMPLOYEES,
+                CacheNames.TOP_SALARY,
+                CacheNames.TOP_EARNING_EMPLOYEES,
+                CacheNames.EMPLOYEES_BY_NAME_SEARCH
+            },
+            allEntries = true)
+    public List<BatchItemResponse<String>> deleteEmployeesByName(final List<String> names) {
+        return employeeClient.deleteEmployeesByName(names).stream()
+                .map(result -> Boolean.TRUE.equals(result.data())
+                        ? new BatchItemResponse<>(result.index(), names.get(result.index()), null)
+                        : BatchItemResponse.<String>error(
+                                result.index(),
+                                result.error() != null
+                                        ? result.error()
+                                        : "Could not delete employee with id: " + names.get(result.index())))
+                .toList();
+    }
 }
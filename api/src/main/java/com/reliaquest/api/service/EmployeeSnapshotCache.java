@@ -0,0 +1,537 @@
+package com.reliaquest.api.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.reliaquest.api.config.CacheConfig;
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.constants.CacheNames;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-flight cache of the full employee list, backing {@link CacheNames#EMPLOYEES}.
+ * <p>
+ * The list is held in a Caffeine {@link AsyncCache} of pending loads: the first caller to miss installs a pending load
+ * and runs it on its own thread, or through {@link #getAsync(Supplier)} without blocking one, and every caller
+ * arriving while it is in flight waits on that same load instead of starting its own. However many requests for the
+ * list, searches or salary queries miss together, at most one full-list request is sent upstream.
+ * <p>
+ * Once the list is older than its {@link CacheProperties.Spec#getRefreshAfterWrite()} (the soft TTL), the next reader
+ * starts a reload in the background and, like every reader after it, is served the current list until the reload
+ * replaces it. Only a list older than {@link CacheProperties.Spec#getExpireAfterWrite()} (the hard TTL) is dropped and
+ * waited for.
+ * <p>
+ * Creates and deletes are written through: {@link #applyCreated(EmployeeResponse)} and
+ * {@link #applyDeleted(EmployeeResponse)} publish a patched copy of the list in one atomic replace, so readers see
+ * the list before or after a change, never part of one. A patched list is as old as the full load it was patched
+ * from, so the soft TTL still reconciles it with upstream however often it is patched, catching any change that was
+ * missed or misapplied.
+ * <ul>
+ *     <li>The cache is registered with the {@link CaffeineCacheManager} under {@link CacheNames#EMPLOYEES} with the key
+ *     {@link SimpleKey#EMPTY}, so {@code @CacheEvict} and {@link EmployeeCacheUpdater} keep working on it</li>
+ *     <li>A failed load is shared by its waiters and then dropped, so the next caller tries again</li>
+ *     <li>An empty list is returned but not kept, as the client reports most failures that way</li>
+ *     <li>A failed or empty background reload keeps the current list; the next reader past the soft TTL retries</li>
+ *     <li>A background reload does not overwrite a list that was evicted or replaced while it ran; the changes
+ *     patched in while it ran are applied again on top of it, as its response may predate them</li>
+ *     <li>Reading the cache through the {@link CacheManager} never loads, so {@link EmployeeCacheUpdater} can patch
+ *     the list without reaching upstream</li>
+ * </ul>
+ * <p>
+ * Name searches are answered from an {@link EmployeeNameIndex}, and salary queries from an {@link EmployeeSalaryIndex},
+ * of the current list. Both are built as a full load or reload is installed, before any reader is handed the list.
+ * {@link #applyCreated(EmployeeResponse)} and {@link #applyDeleted(EmployeeResponse)} then carry them forward under
+ * the same lock as the list: each patched list gets patched copies, so a reader of the previous list keeps indexes
+ * that match it, and a patch never rebuilds them. Only a list put through the {@link CacheManager} is indexed by the
+ * first query or patch that meets it, and only while it is still the cached list.
+ * <p>
+ * Aggregates over every employee read read-only {@link EmployeeColumns} of the current list instead. They are kept with
+ * the indexes of the list they were built from, so each loaded or patched list is split into columns exactly once, by
+ * the first aggregate over it, and a reader of an older list cannot replace them.
+ * <p>
+ * Background reloads are timed as {@value #REFRESH_TIMER}, tagged with the cache name and an {@code outcome} of
+ * {@code SUCCESS} or {@code FAILURE}.
+ */
+@Log4j2
+@Component
+public class EmployeeSnapshotCache {
+
+    public static final String REFRESH_TIMER = "employee.cache.refresh";
+
+    private static final Object KEY = SimpleKey.EMPTY;
+
+    private final EmployeeClient employeeClient;
+    private final AsyncCache<Object, List<EmployeeResponse>> employees;
+    private final Ticker ticker;
+    private final Duration softTtl;
+    private final Duration hardTtl;
+    private final Timer refreshSuccess;
+    private final Timer refreshFailure;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicReference<Indexed> indexed = new AtomicReference<>();
+    private volatile Reconciled reconciled;
+    // Guarded by this; set while a background reload runs
+    private Journal journal;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, "employee-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public EmployeeSnapshotCache(
+            final EmployeeClient employeeClient,
+            final CacheManager cacheManager,
+            final CacheProperties cacheProperties,
+            final MeterRegistry meterRegistry) {
+        this(
+                employeeClient,
+                cacheManager,
+                cacheProperties.specFor(CacheNames.EMPLOYEES),
+                meterRegistry,
+                Ticker.systemTicker());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    EmployeeSnapshotCache(
+            final EmployeeClient employeeClient,
+            final CacheManager cacheManager,
+            final CacheProperties.Spec spec,
+            final MeterRegistry meterRegistry,
+            final Ticker ticker) {
+        this.employeeClient = employeeClient;
+        this.ticker = ticker;
+        this.softTtl = spec.getRefreshAfterWrite();
+        this.hardTtl = spec.getExpireAfterWrite();
+        // Not a loading cache: Spring would then load on every CacheManager read, including the change feed's
+        this.employees = CacheConfig.caffeineOf(spec).ticker(ticker).buildAsync();
+        this.refreshSuccess = refreshTimer(meterRegistry, "SUCCESS");
+        this.refreshFailure = refreshTimer(meterRegistry, "FAILURE");
+        if (cacheManager instanceof CaffeineCacheManager caffeineCacheManager) {
+            caffeineCacheManager.registerCustomCache(CacheNames.EMPLOYEES, (AsyncCache) employees);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Gets the cached employee list, loading it if absent or joining a load already in flight. A list past its soft
+     * TTL is returned as is, after starting a background reload.
+     *
+     * @return all employees
+     * @throws RuntimeException whatever the shared load failed with
+     */
+    public List<EmployeeResponse> get() {
+        try {
+            return getAsync(() -> CompletableFuture.completedFuture(employeeClient.getAllEmployees()))
+                    .join();
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Gets the cached employee list as {@link #get()} does, without blocking: a missing list is loaded by the given
+     * loader, and every caller, blocking or not, joins the same load. Background reloads past the soft TTL still use
+     * {@link EmployeeClient}, on their own thread.
+     *
+     * @param loader Starts loading every employee, for when no list is cached or being loaded
+     * @return all employees, once loaded; completed exceptionally with whatever the shared load failed with
+     */
+    public CompletableFuture<List<EmployeeResponse>> getAsync(
+            final Supplier<CompletableFuture<List<EmployeeResponse>>> loader) {
+        final var load = new CompletableFuture<List<EmployeeResponse>>();
+        final var pending = employees.get(KEY, (key, executor) -> load);
+        if (pending == load) {
+            // This caller won the race, so it loads; completing outside the cache keeps its lock free for waiters
+            log.debug("Loading employees from upstream");
+            final var loadedAt = ticker.read();
+            try {
+                loader.get().whenComplete((loaded, failure) -> {
+                    if (failure != null) {
+                        load.completeExceptionally(
+                                failure instanceof CompletionException && failure.getCause() != null
+                                        ? failure.getCause()
+                                        : failure);
+                        return;
+                    }
+                    reconciled = new Reconciled(load, loadedAt);
+                    indexLoaded(load, loaded);
+                    load.complete(loaded);
+                });
+            } catch (final RuntimeException exception) {
+                load.completeExceptionally(exception);
+            }
+        } else if (pending.isDone() && !pending.isCompletedExceptionally()) {
+            final var age = ageOf(pending);
+            if (hardTtl != null && age >= hardTtl.toNanos() && employees.asMap().remove(KEY, pending)) {
+                // Patched past the hard TTL without a successful reload
+                return getAsync(loader);
+            }
+            if (softTtl != null && age >= softTtl.toNanos()) {
+                refreshInBackground(pending);
+            }
+        }
+        return pending.thenApply(loaded -> {
+            if (loaded == null || loaded.isEmpty()) {
+                // Only drop this load's result; a newer one may already have replaced it
+                employees.asMap().remove(KEY, pending);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * Finds the employees whose name contains the search string, ignoring case, loading the list if needed.
+     *
+     * @param searchString The search string
+     * @return the matching employees, in list order
+     */
+    public List<EmployeeResponse> searchByName(final String searchString) {
+        return indexed().names().search(searchString);
+    }
+
+    /**
+     * Gets the highest salary, loading the list if needed.
+     *
+     * @return the highest employee salary, or 0 if there are no employees
+     */
+    public int highestSalary() {
+        return indexed().salaries().highestSalary();
+    }
+
+    /**
+     * Gets the names of the highest earning employees, loading the list if needed.
+     *
+     * @param limit The number of names to return at most
+     * @return the names, highest salary first and in list order among equal salaries
+     */
+    public List<String> topEarningNames(final int limit) {
+        return indexed().salaries().topEarningNames(limit);
+    }
+
+    /**
+     * Adds a created employee to the cached list, replacing one with the same id, and to its name index.
+     *
+     * @param employee The created employee
+     * @return the patched list, or {@code null} if no list is cached
+     */
+    public List<EmployeeResponse> applyCreated(final EmployeeResponse employee) {
+        return patch(
+                employees -> {
+                    employees.removeIf(cached -> Objects.equals(cached.getId(), employee.getId()));
+                    employees.add(employee);
+                },
+                indexed -> {
+                    indexed.names().add(employee);
+                    indexed.salaries().add(employee);
+                });
+    }
+
+    /**
+     * Removes a deleted employee from the cached list and from its name index.
+     *
+     * @param employee The deleted employee
+     * @return the patched list, or {@code null} if no list is cached
+     */
+    public List<EmployeeResponse> applyDeleted(final EmployeeResponse employee) {
+        return patch(
+                employees -> employees.removeIf(cached -> Objects.equals(cached.getId(), employee.getId())),
+                indexed -> {
+                    indexed.names().remove(employee.getId());
+                    indexed.salaries().remove(employee.getId());
+                });
+    }
+
+    /**
+     * Gets the current list split into columns, loading the list if needed.
+     *
+     * @return the columns of the current list
+     */
+    EmployeeColumns columns() {
+        return indexed().columns();
+    }
+
+    /**
+     * The indexes of the current list, loading it if needed.
+     */
+    private Indexed indexed() {
+        return indexedOf(get());
+    }
+
+    /**
+     * The indexes of a list returned by {@link #get()} or {@link #getAsync(Supplier)}. A list that a patch or reload
+     * has replaced since it was read is answered from the indexes of the list that replaced it, rather than indexed
+     * again.
+     *
+     * @param current The list to query
+     * @return its indexes, or those of the list now cached in its place
+     */
+    Indexed indexedOf(final List<EmployeeResponse> current) {
+        final var installed = indexed.get();
+        if (installed != null && (installed.employees() == current || current != cachedList())) {
+            return installed;
+        }
+        // Put through the CacheManager, so never loaded here; installed only if no patch or load replaced it meanwhile
+        final var built = Indexed.of(current);
+        return indexed.compareAndSet(installed, built) ? built : indexed.get();
+    }
+
+    /**
+     * Installs the indexes of a full load before any caller is handed it, unless the cache has moved on to another
+     * list while it ran. Nothing patches a list before its load completes, so they cannot fall behind.
+     */
+    private void indexLoaded(
+            final CompletableFuture<List<EmployeeResponse>> load, final List<EmployeeResponse> loaded) {
+        if (loaded == null) {
+            return;
+        }
+        final var built = Indexed.of(loaded);
+        synchronized (this) {
+            if (employees.asMap().get(KEY) == load || indexed.get() == null) {
+                indexed.set(built);
+            }
+        }
+    }
+
+    /**
+     * @return the list currently cached, or {@code null} if none is, or it is still loading
+     */
+    private List<EmployeeResponse> cachedList() {
+        final var current = employees.getIfPresent(KEY);
+        if (current == null || !current.isDone() || current.isCompletedExceptionally()) {
+            return null;
+        }
+        return current.join();
+    }
+
+    /**
+     * Replaces a loaded list, and its indexes, with patched copies, as readers may still hold them.
+     */
+    private synchronized List<EmployeeResponse> patch(
+            final Consumer<List<EmployeeResponse>> listPatch, final Consumer<Indexed> indexPatch) {
+        final var current = employees.getIfPresent(KEY);
+        if (current == null || !current.isDone() || current.isCompletedExceptionally()) {
+            return null;
+        }
+        final var loaded = current.join();
+        if (loaded == null) {
+            return null;
+        }
+        final var loadedAt = ticker.read() - ageOf(current);
+        final List<EmployeeResponse> patched = new ArrayList<>(loaded);
+        listPatch.accept(patched);
+        final var next = CompletableFuture.completedFuture(patched);
+        if (!employees.asMap().replace(KEY, current, next)) {
+            return null;
+        }
+        reconciled = new Reconciled(next, loadedAt);
+        if (journal != null && journal.tip == current) {
+            journal.tip = next;
+            journal.patches.add(listPatch);
+        }
+        final var indexed = this.indexed.get();
+        if (indexed != null && indexed.employees() == loaded) {
+            this.indexed.set(indexed.patched(patched, indexPatch));
+        } else {
+            // Put through the CacheManager and not queried since, so it was never indexed
+            this.indexed.set(Indexed.of(patched));
+        }
+        return patched;
+    }
+
+    /**
+     * Nanoseconds since the full load the list was loaded or patched from. A list put by anyone else is as old as its
+     * write.
+     */
+    private long ageOf(final CompletableFuture<List<EmployeeResponse>> future) {
+        final var reconciled = this.reconciled;
+        if (reconciled != null && reconciled.future() == future) {
+            return ticker.read() - reconciled.loadedAt();
+        }
+        return employees
+                .synchronous()
+                .policy()
+                .expireAfterWrite()
+                .flatMap(expiration -> expiration.ageOf(KEY))
+                .map(Duration::toNanos)
+                .orElse(0L);
+    }
+
+    private void refreshInBackground(final CompletableFuture<List<EmployeeResponse>> current) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> refresh(current));
+        } catch (final RuntimeException exception) {
+            // Rejected during shutdown
+            refreshing.set(false);
+        }
+    }
+
+    private void refresh(final CompletableFuture<List<EmployeeResponse>> current) {
+        final var started = System.nanoTime();
+        final var loadedAt = ticker.read();
+        synchronized (this) {
+            journal = new Journal(current);
+        }
+        var refreshed = false;
+        try {
+            final var reloaded = employeeClient.getAllEmployees();
+            if (reloaded != null && !reloaded.isEmpty()) {
+                refreshed = true;
+                if (!install(reloaded, loadedAt)) {
+                    log.debug("Employees changed during refresh, keeping the newer list");
+                }
+            } else {
+                log.warn("Employee refresh returned no employees, keeping the current list");
+            }
+        } catch (final RuntimeException exception) {
+            log.warn("Employee refresh failed, keeping the current list: [{}]", exception.getMessage());
+        } finally {
+            synchronized (this) {
+                journal = null;
+            }
+            refreshing.set(false);
+            (refreshed ? refreshSuccess : refreshFailure).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Replaces the list the reload started from, or the list patched from it since, with the reloaded one and the
+     * same patches applied again.
+     */
+    private synchronized boolean install(final List<EmployeeResponse> reloaded, final long loadedAt) {
+        final var current = employees.getIfPresent(KEY);
+        if (journal == null || current != journal.tip) {
+            return false;
+        }
+        final List<EmployeeResponse> reconciledList = new ArrayList<>(reloaded);
+        journal.patches.forEach(listPatch -> listPatch.accept(reconciledList));
+        final var next = CompletableFuture.completedFuture(reconciledList);
+        if (!employees.asMap().replace(KEY, current, next)) {
+            return false;
+        }
+        reconciled = new Reconciled(next, loadedAt);
+        indexed.set(Indexed.of(reconciledList));
+        if (!journal.patches.isEmpty()) {
+            log.debug("Applied [{}] changes made during refresh to the reloaded employees", journal.patches.size());
+        }
+        return true;
+    }
+
+    /**
+     * The latest list loaded in full or patched from one, and when that full load started.
+     */
+    private record Reconciled(CompletableFuture<List<EmployeeResponse>> future, long loadedAt) {}
+
+    /**
+     * The list patches applied while a reload runs, and the list they produced.
+     */
+    private static final class Journal {
+
+        private final List<Consumer<List<EmployeeResponse>>> patches = new ArrayList<>();
+        private CompletableFuture<List<EmployeeResponse>> tip;
+
+        private Journal(final CompletableFuture<List<EmployeeResponse>> tip) {
+            this.tip = tip;
+        }
+    }
+
+    /**
+     * A list with its indexes, which describe that list and no other, and its columns, built once by the first
+     * aggregate over it.
+     */
+    static final class Indexed {
+
+        private final List<EmployeeResponse> employees;
+        private final EmployeeNameIndex names;
+        private final EmployeeSalaryIndex salaries;
+        private volatile EmployeeColumns columns;
+
+        private Indexed(
+                final List<EmployeeResponse> employees,
+                final EmployeeNameIndex names,
+                final EmployeeSalaryIndex salaries) {
+            this.employees = employees;
+            this.names = names;
+            this.salaries = salaries;
+        }
+
+        static Indexed of(final List<EmployeeResponse> employees) {
+            return new Indexed(employees, EmployeeNameIndex.of(employees), EmployeeSalaryIndex.of(employees));
+        }
+
+        /**
+         * Copies these indexes for a patched copy of their list, and applies the same patch to them.
+         */
+        Indexed patched(final List<EmployeeResponse> patchedEmployees, final Consumer<Indexed> indexPatch) {
+            final var next = new Indexed(patchedEmployees, names.copy(), salaries.copy());
+            indexPatch.accept(next);
+            return next;
+        }
+
+        List<EmployeeResponse> employees() {
+            return employees;
+        }
+
+        EmployeeNameIndex names() {
+            return names;
+        }
+
+        EmployeeSalaryIndex salaries() {
+            return salaries;
+        }
+
+        EmployeeColumns columns() {
+            var columns = this.columns;
+            if (columns == null) {
+                synchronized (this) {
+                    columns = this.columns;
+                    if (columns == null) {
+                        columns = EmployeeColumns.of(employees);
+                        this.columns = columns;
+                    }
+                }
+            }
+            return columns;
+        }
+    }
+
+    private static Timer refreshTimer(final MeterRegistry meterRegistry, final String outcome) {
+        return Timer.builder(REFRESH_TIMER)
+                .description("Time taken by background reloads of a cache")
+                .tag("cache", CacheNames.EMPLOYEES)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
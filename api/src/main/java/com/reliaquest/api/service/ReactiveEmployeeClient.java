@@ -0,0 +1,149 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.ClientConfig;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.model.request.CreateEmployeeRequest;
+import com.reliaquest.api.model.request.DeleteEmployeeRequest;
+import com.reliaquest.api.model.response.DeleteEmployeeResponseWrapper;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import com.reliaquest.api.model.response.EmployeeResponseWrapper;
+import jakarta.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.codec.CodecException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeClient}, calling the third-party Employee API through {@link WebClient}.
+ * <p>
+ * Provides methods to:
+ * <ul>
+ *     <li>Retrieve all employees via {@link #getAllEmployees()}</li>
+ *     <li>Get an employee by ID via {@link #getEmployeeById(String)}</li>
+ *     <li>Create a new employee via {@link #createEmployee(CreateEmployeeRequest)}</li>
+ *     <li>Delete an employee by name via {@link #deleteEmployeeById(String)}</li>
+ * </ul>
+ * <p>
+ * Every method returns a cold {@link Mono} that sends its request when subscribed to and completes on the event loop
+ * that read the response, so no thread waits on upstream however many requests are in flight. Requests go through an
+ * {@link UpstreamGuard} as {@link EmployeeClient}'s do, with retry backoffs scheduled rather than slept, and results
+ * are reported the same way: failures as an empty list, {@link EmployeeResponse#BLANK} or {@code false}, and
+ * throttling as {@link UpstreamThrottledException}.
+ */
+@Log4j2
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveEmployeeClient {
+
+    private static final int FIRST = 0;
+    private static final String GET_EMPLOYEE_BY_ID = "/{id}";
+
+    private final WebClient employeeWebClient;
+    private final ClientConfig clientConfig;
+
+    private UpstreamGuard upstreamGuard;
+
+    @PostConstruct
+    public void setup() {
+        upstreamGuard = new UpstreamGuard(clientConfig.getRetry(), clientConfig.getCircuitBreaker());
+    }
+
+    /**
+     * Gets all the employees in a single request.
+     *
+     * @return a list containing {@link EmployeeResponse}, empty if the request failed
+     */
+    public Mono<List<EmployeeResponse>> getAllEmployees() {
+        return upstreamGuard
+                .callAsync(HttpMethod.GET, employeeWebClient.get().retrieve().bodyToMono(EmployeeResponseWrapper.class))
+                .mapNotNull(EmployeeResponseWrapper::data)
+                .defaultIfEmpty(Collections.emptyList())
+                .onErrorResume(ReactiveEmployeeClient::failed, exception -> {
+                    log.warn(exception.getMessage());
+                    return Mono.just(Collections.emptyList());
+                });
+    }
+
+    /**
+     * Gets an employee by their id
+     *
+     * @param id The employee id to fetch with.
+     * @return the mapped {@link EmployeeResponse}, or {@link EmployeeResponse#BLANK} if not found or the request failed
+     */
+    public Mono<EmployeeResponse> getEmployeeById(final String id) {
+        return single(upstreamGuard.callAsync(
+                HttpMethod.GET,
+                employeeWebClient
+                        .get()
+                        .uri(GET_EMPLOYEE_BY_ID, id)
+                        .retrieve()
+                        .bodyToMono(EmployeeResponseWrapper.class)));
+    }
+
+    /**
+     * Creates a new employee
+     *
+     * @param employeeInput The employee fields to create a new employee object with.
+     * @return the {@link EmployeeResponse} if successful, otherwise {@link EmployeeResponse#BLANK}
+     */
+    public Mono<EmployeeResponse> createEmployee(final CreateEmployeeRequest employeeInput) {
+        return single(upstreamGuard.callAsync(
+                HttpMethod.POST,
+                employeeWebClient
+                        .post()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(employeeInput)
+                        .retrieve()
+                        .bodyToMono(EmployeeResponseWrapper.class)));
+    }
+
+    /**
+     * Deletes the employee with the given name, which upstream takes as the id
+     *
+     * @param name The name of the employee to delete
+     * @return true if delete was successful, false otherwise
+     */
+    public Mono<Boolean> deleteEmployeeById(final String name) {
+        return upstreamGuard
+                .callAsync(
+                        HttpMethod.DELETE,
+                        employeeWebClient
+                                .method(HttpMethod.DELETE)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(new DeleteEmployeeRequest(name))
+                                .retrieve()
+                                .bodyToMono(DeleteEmployeeResponseWrapper.class))
+                .map(DeleteEmployeeResponseWrapper::data)
+                .defaultIfEmpty(false)
+                .onErrorResume(ReactiveEmployeeClient::failed, exception -> {
+                    log.warn(exception.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    private static Mono<EmployeeResponse> single(final Mono<EmployeeResponseWrapper> response) {
+        return response.mapNotNull(EmployeeResponseWrapper::data)
+                .mapNotNull(data -> data.isEmpty() ? null : data.get(FIRST))
+                .defaultIfEmpty(EmployeeResponse.BLANK)
+                .onErrorResume(ReactiveEmployeeClient::failed, exception -> {
+                    log.warn(exception.getMessage());
+                    return Mono.just(EmployeeResponse.BLANK);
+                });
+    }
+
+    /**
+     * The failures reported as an empty result, as {@link EmployeeClient} does with its {@code RestClientException}s.
+     */
+    private static boolean failed(final Throwable exception) {
+        return exception instanceof WebClientException || exception instanceof CodecException;
+    }
+}
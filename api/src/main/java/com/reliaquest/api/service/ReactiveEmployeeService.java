@@ -0,0 +1,200 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.constants.CacheNames;
+import com.reliaquest.api.model.request.CreateEmployeeRequest;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import com.reliaquest.api.util.UuidValidator;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService} for the reactive controller, sharing its caches.
+ * <p>
+ * Offers methods to:
+ * <ul>
+ *     <li>Retrieve all employees</li>
+ *     <li>Search employees by name</li>
+ *     <li>Get an employee by ID</li>
+ *     <li>Get the highest salary among employees</li>
+ *     <li>List the top ten highest earning employee names</li>
+ *     <li>Create a new employee</li>
+ *     <li>Delete an employee by ID</li>
+ * </ul>
+ * <p>
+ * No method waits on upstream. The employee list comes from {@link EmployeeSnapshotCache#getAsync(Supplier)}, loaded
+ * through {@link ReactiveEmployeeClient} when missing, and the by-id and search caches are read in memory before
+ * anything is requested. Changes are applied to the caches through {@link EmployeeCacheUpdater}, as
+ * {@link EmployeeService} does.
+ * <p>
+ * Nothing linear in the number of employees runs on the event loop. A loaded list is indexed by
+ * {@link EmployeeSnapshotCache} as its load completes, which is moved to a {@link Schedulers#boundedElastic()}
+ * worker, so queries only look the indexes up. Patching the list and its indexes copies them under the snapshot
+ * cache's lock, so creates and deletes apply their changes on such a worker too.
+ */
+@Log4j2
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveEmployeeService {
+
+    private static final String EMPTY = "";
+    private final ReactiveEmployeeClient reactiveEmployeeClient;
+    private final EmployeeSnapshotCache employeeSnapshotCache;
+    private final EmployeeSearchReverseIndex employeeSearchReverseIndex;
+    private final EmployeeCacheUpdater employeeCacheUpdater;
+    private final CacheManager cacheManager;
+
+    /**
+     * Gets all the employees from {@link CacheNames#EMPLOYEES}. Concurrent misses share a single upstream request,
+     * including misses of the blocking {@link EmployeeService}.
+     *
+     * @return a collection containing all employees.
+     */
+    public Mono<List<EmployeeResponse>> getAllEmployees() {
+        return Mono.fromFuture(() -> employeeSnapshotCache.getAsync(() -> reactiveEmployeeClient
+                .getAllEmployees()
+                .publishOn(Schedulers.boundedElastic())
+                .toFuture()));
+    }
+
+    /**
+     * Gets employees whose name contains the search string, ignoring case, from
+     * {@link CacheNames#EMPLOYEES_BY_NAME_SEARCH} or else through the trigram index of {@link CacheNames#EMPLOYEES}.
+     *
+     * @param searchString the search string to match on
+     * @return the collection of {@link EmployeeResponse} that matched the search string.
+     */
+    public Mono<List<EmployeeResponse>> getEmployeesByNameSearch(final String searchString) {
+        final List<EmployeeResponse> cached = cached(CacheNames.EMPLOYEES_BY_NAME_SEARCH, searchString);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return getAllEmployees().map(employees -> {
+            final var matchedEmployees =
+                    employeeSnapshotCache.indexedOf(employees).names().search(searchString);
+
+            // Recorded before it is cached, as the blocking search does
+            employeeSearchReverseIndex.record(searchString, matchedEmployees);
+            put(CacheNames.EMPLOYEES_BY_NAME_SEARCH, searchString, matchedEmployees);
+            return matchedEmployees;
+        });
+    }
+
+    /**
+     * Gets the employee with the specified id, from {@link CacheNames#EMPLOYEE_BY_ID} or else from upstream.
+     *
+     * @param id the employee id.
+     * @return the {@link EmployeeResponse} object for the id.
+     */
+    public Mono<EmployeeResponse> getEmployeeById(final String id) {
+        if (!UuidValidator.isValidUuid(id)) {
+            return Mono.just(EmployeeResponse.BLANK);
+        }
+        final EmployeeResponse cached = cached(CacheNames.EMPLOYEE_BY_ID, id);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return reactiveEmployeeClient
+                .getEmployeeById(id)
+                .doOnNext(employee -> put(CacheNames.EMPLOYEE_BY_ID, id, employee));
+    }
+
+    /**
+     * Returns the highest salary of employees, read from the salary index of {@link CacheNames#EMPLOYEES}.
+     *
+     * @return the highest employee salary, or 0 if no employee entries are present.
+     */
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        return getAllEmployees()
+                .map(employees ->
+                        employeeSnapshotCache.indexedOf(employees).salaries().highestSalary());
+    }
+
+    /**
+     * Queries the top ten earning employees, and returns their names, read from the salary index of
+     * {@link CacheNames#EMPLOYEES}.
+     *
+     * @return a collection of the top ten earning employee's names
+     */
+    public Mono<List<String>> getTopTenHighestEarningEmployeeNames() {
+        return getAllEmployees().map(employees -> employeeSnapshotCache
+                .indexedOf(employees)
+                .salaries()
+                .topEarningNames(EmployeeService.TOP_EARNERS));
+    }
+
+    /**
+     * Creates a new employee, and adds it to the caches through {@link EmployeeCacheUpdater}.
+     *
+     * @param employeeInput The employee object to create
+     * @return a {@link EmployeeResponse}.
+     */
+    public Mono<EmployeeResponse> createEmployee(final CreateEmployeeRequest employeeInput) {
+        return reactiveEmployeeClient
+                .createEmployee(employeeInput)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(created -> {
+                    if (created.getId() != null) {
+                        employeeCacheUpdater.applyCreated(created);
+                    }
+                });
+    }
+
+    /**
+     * Deletes the employee specified by the provided name as id, which upstream matches against whole names, ignoring
+     * case, and removes it from the caches through {@link EmployeeCacheUpdater} as
+     * {@link EmployeeService#deleteEmployeeById(String)} does.
+     *
+     * @param name The name as the id for the employee object to delete
+     * @return the name of the employee deleted or if not present, {@link #EMPTY} otherwise
+     */
+    public Mono<String> deleteEmployeeById(final String name) {
+        return getAllEmployees().flatMap(employees -> {
+            // Upstream only deletes an employee whose whole name matches, ignoring case
+            final var matchedEmployees = employeeSnapshotCache.indexedOf(employees).names().search(name).stream()
+                    .filter(employee -> employee != null && name.equalsIgnoreCase(employee.getName()))
+                    .toList();
+            if (matchedEmployees.isEmpty()) {
+                return Mono.just(EMPTY);
+            }
+
+            return reactiveEmployeeClient
+                    .deleteEmployeeById(name)
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(deleted -> {
+                        if (!deleted) {
+                            return EMPTY;
+                        }
+                        final var employee = matchedEmployees.get(0);
+                        if (matchedEmployees.size() == 1 && employee.getId() != null) {
+                            employeeCacheUpdater.applyDeleted(employee);
+                        } else {
+                            // Upstream deleted one of several employees with this name, without saying which
+                            employeeCacheUpdater.applyDeletedOneOf(matchedEmployees);
+                        }
+                        return name;
+                    });
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(final String name, final Object key) {
+        final var cache = cacheManager.getCache(name);
+        final var value = cache == null ? null : cache.get(key);
+        return value == null ? null : (T) value.get();
+    }
+
+    private void put(final String name, final Object key, final Object value) {
+        final var cache = cacheManager.getCache(name);
+        if (cache != null) {
+            cache.put(key, value);
+        }
+    }
+}
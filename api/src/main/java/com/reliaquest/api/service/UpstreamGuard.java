@@ -0,0 +1,268 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.ClientConfig;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Retries and circuit breaker shared by every request {@link EmployeeClient} or {@link ReactiveEmployeeClient} sends
+ * upstream.
+ * <p>
+ * {@link #call(HttpMethod, Supplier)} runs a request, and {@link #callAsync(HttpMethod, Mono)} a non-blocking one, and:
+ * <ul>
+ *     <li>retries {@code 429} and {@code 503} responses for any method, waiting for their {@code Retry-After} plus an
+ *     exponential, jittered backoff</li>
+ *     <li>retries connection failures and other server errors for safe methods only</li>
+ *     <li>throws {@link UpstreamThrottledException} when upstream keeps throttling, asks for a longer wait than
+ *     {@link ClientConfig.Retry#getMaxRetryAfter()}, or the circuit is open</li>
+ * </ul>
+ * <p>
+ * The circuit opens after {@link ClientConfig.CircuitBreaker#getFailureThreshold()} consecutive throttled or failed
+ * attempts. While open, requests fail fast without reaching upstream; once
+ * {@link ClientConfig.CircuitBreaker#getOpenDuration()} (or a longer {@code Retry-After}) has passed, a single trial
+ * request is let through, and its outcome closes or reopens the circuit.
+ */
+@Log4j2
+public class UpstreamGuard {
+
+    private static final Set<HttpMethod> SAFE_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+    private static final Duration TRIAL_RETRY_AFTER = Duration.ofSeconds(1);
+    private static final int MAX_DOUBLINGS = 30;
+
+    private final ClientConfig.Retry retry;
+    private final ClientConfig.CircuitBreaker circuitBreaker;
+
+    /* Guarded by this */
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntil;
+    private boolean trialInFlight;
+
+    public UpstreamGuard(@NonNull ClientConfig.Retry retry, @NonNull ClientConfig.CircuitBreaker circuitBreaker) {
+        this.retry = retry;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Runs the request, retrying it as described above.
+     *
+     * @param method  the request's method, which decides whether failures other than throttling are retried
+     * @param request sends the request and returns its result
+     * @return the request's result
+     * @throws UpstreamThrottledException if upstream is throttling or the circuit is open
+     */
+    public <T> T call(final HttpMethod method, final Supplier<T> request) {
+
+        for (int attempt = 1; ; attempt++) {
+            admit();
+            final Duration backoff;
+            try {
+                final var result = request.get();
+                onSuccess();
+                return result;
+            } catch (final HttpStatusCodeException exception) {
+                backoff = backoffAfter(
+                        method, attempt, exception, exception.getStatusCode(), exception.getResponseHeaders());
+            } catch (final ResourceAccessException exception) {
+                backoff = backoffAfter(method, attempt, exception, null, null);
+            } catch (final RuntimeException exception) {
+                onInconclusive();
+                throw exception;
+            }
+            sleep(backoff);
+        }
+    }
+
+    /**
+     * Runs a non-blocking request, retrying it as described above. Backoffs are scheduled rather than slept, so no
+     * thread waits for a retry.
+     *
+     * @param method  the request's method, which decides whether failures other than throttling are retried
+     * @param request sends the request when subscribed to, and emits its result
+     * @return the request's result, or {@link UpstreamThrottledException} if upstream is throttling or the circuit is
+     * open
+     */
+    public <T> Mono<T> callAsync(final HttpMethod method, final Mono<T> request) {
+        return attempt(method, request, 1);
+    }
+
+    private <T> Mono<T> attempt(final HttpMethod method, final Mono<T> request, final int attempt) {
+        return Mono.defer(() -> {
+            admit();
+            return request.doOnSuccess(result -> onSuccess())
+                    // A cancelled trial request must not keep the circuit half-open
+                    .doOnCancel(this::onInconclusive)
+                    .onErrorResume(failure -> {
+                        final Duration backoff;
+                        try {
+                            if (failure instanceof WebClientResponseException exception) {
+                                backoff = backoffAfter(
+                                        method, attempt, exception, exception.getStatusCode(), exception.getHeaders());
+                            } else if (failure instanceof WebClientRequestException exception) {
+                                backoff = backoffAfter(method, attempt, exception, null, null);
+                            } else {
+                                onInconclusive();
+                                return Mono.error(failure);
+                            }
+                        } catch (final RuntimeException exception) {
+                            return Mono.error(exception);
+                        }
+                        return Mono.delay(backoff).then(attempt(method, request, attempt + 1));
+                    });
+        });
+    }
+
+    /**
+     * Records a failed attempt, then returns how long to wait before the next one, or throws what the request fails
+     * with.
+     *
+     * @param status  the response's status, or {@code null} if upstream could not be reached
+     * @param headers the response's headers, or {@code null} if upstream could not be reached
+     */
+    private Duration backoffAfter(
+            final HttpMethod method,
+            final int attempt,
+            final RuntimeException failure,
+            final HttpStatusCode status,
+            final HttpHeaders headers) {
+
+        final var throttled = status != null
+                && (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                        || status.value() == HttpStatus.SERVICE_UNAVAILABLE.value());
+        if (status != null && !throttled && !status.is5xxServerError()) {
+            // Upstream answered, e.g. 404 - a healthy response as far as the circuit is concerned
+            onSuccess();
+            throw failure;
+        }
+
+        final var retryAfter = throttled ? retryAfterOf(headers) : Duration.ZERO;
+        final var wait = onFailure(retryAfter);
+        if (throttled
+                && (wait != null
+                        || attempt >= retry.getMaxAttempts()
+                        || retryAfter.compareTo(retry.getMaxRetryAfter()) > 0)) {
+            throw new UpstreamThrottledException(
+                    "Employee API is throttling requests", wait != null ? wait : retryAfter);
+        }
+        if (!throttled && (wait != null || !SAFE_METHODS.contains(method) || attempt >= retry.getMaxAttempts())) {
+            throw failure;
+        }
+
+        final var backoff = retryAfter.plus(jitteredBackoff(attempt));
+        log.debug("Retrying {} request in [{}] ms (attempt {})", method, backoff.toMillis(), attempt + 1);
+        return backoff;
+    }
+
+    private synchronized void admit() {
+        if (state == State.OPEN) {
+            final var remaining = openUntil - System.nanoTime();
+            if (remaining > 0) {
+                throw new UpstreamThrottledException("Employee API circuit is open", Duration.ofNanos(remaining));
+            }
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                throw new UpstreamThrottledException("Employee API circuit is half-open", TRIAL_RETRY_AFTER);
+            }
+            trialInFlight = true;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Employee API recovered, closing circuit");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * Records a failed attempt and returns how long the circuit stays open if this attempt opened it, otherwise null.
+     */
+    private synchronized Duration onFailure(final Duration retryAfter) {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state != State.HALF_OPEN && consecutiveFailures < circuitBreaker.getFailureThreshold()) {
+            return null;
+        }
+        final var openFor = retryAfter.compareTo(circuitBreaker.getOpenDuration()) > 0
+                ? retryAfter
+                : circuitBreaker.getOpenDuration();
+        log.warn("Opening circuit for [{}] ms after [{}] failed attempts", openFor.toMillis(), consecutiveFailures);
+        state = State.OPEN;
+        openUntil = System.nanoTime() + openFor.toNanos();
+        return openFor;
+    }
+
+    private synchronized void onInconclusive() {
+        trialInFlight = false;
+    }
+
+    /**
+     * Full jitter: uniform between zero and an exponentially growing cap.
+     */
+    private Duration jitteredBackoff(final int attempt) {
+        final var cap = Math.min(
+                retry.getMaxBackoff().toNanos(),
+                retry.getInitialBackoff().toNanos() << Math.min(attempt - 1, MAX_DOUBLINGS));
+        return cap <= 0
+                ? Duration.ZERO
+                : Duration.ofNanos(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    /**
+     * Reads {@code Retry-After} as either delay-seconds or an HTTP date; missing or malformed values mean no wait.
+     */
+    static Duration retryAfterOf(final HttpHeaders headers) {
+        final var value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Duration.ZERO;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (final NumberFormatException notSeconds) {
+            try {
+                final var until = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                final var wait = Duration.between(ZonedDateTime.now(until.getZone()), until);
+                return wait.isNegative() ? Duration.ZERO : wait;
+            } catch (final DateTimeParseException notDate) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamThrottledException("Interrupted while waiting to retry", duration);
+        }
+    }
+
+    private enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+}
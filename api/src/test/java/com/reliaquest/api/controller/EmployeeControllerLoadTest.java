@@ -0,0 +1,162 @@
+package com.reliaquest.api.controller;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.reliaquest.api.ApiApplication;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+/**
+ * Load tests of the whole API against a slow upstream, with requests handled on platform threads, on virtual threads
+ * or on event loops.
+ * <p>
+ * Every request is for an employee that is not cached, so it blocks on an upstream call for {@link #LATENCY}. A burst
+ * of {@link #BURST} such requests is sent at once:
+ * <ul>
+ *     <li>on platform threads Tomcat serves at most {@link #PLATFORM_THREADS} of them at a time, so the burst queues
+ *     and takes at least one upstream round trip per wave</li>
+ *     <li>on virtual threads (Java 21 only, {@code -PjavaVersion=21}) every request is served at once, so the burst
+ *     finishes faster than platform threads ever could</li>
+ *     <li>on the {@code reactive} profile no thread waits on upstream at all, so a handful of event loops serve every
+ *     request at once, on any Java version</li>
+ * </ul>
+ * The connection pool is sized above the burst in every mode, so it does not become the limit instead. Tagged
+ * {@code load}, so only {@code ./gradlew api:loadTest} runs it.
+ */
+@Tag("load")
+class EmployeeControllerLoadTest {
+
+    private static final Logger log = LogManager.getLogger(EmployeeControllerLoadTest.class);
+
+    private static final Duration LATENCY = Duration.ofMillis(500);
+    // Tomcat's default is 200. Fewer keep the burst's CPU cost well below its upstream latency even on a single core,
+    // and queue just the same
+    private static final int PLATFORM_THREADS = 10;
+    private static final int WAVES = 4;
+    private static final int BURST = WAVES * PLATFORM_THREADS;
+    private static final String EMPLOYEE =
+            """
+            {
+              "data": {
+                "id": "%s",
+                "employee_name": "Jane Doe",
+                "employee_salary": 90000,
+                "employee_age": 30,
+                "employee_title": "Engineer",
+                "employee_email": "jane@company.com"
+              }
+            }
+            """;
+
+    private static WireMockServer upstream;
+
+    @BeforeAll
+    static void startUpstream() {
+        // Enough threads for the whole burst, so the upstream itself is never the bottleneck
+        upstream = new WireMockServer(
+                options().dynamicPort().disableRequestJournal().containerThreads(2 * BURST));
+        upstream.start();
+        upstream.stubFor(get(urlPathMatching("/api/v1/employee/.+"))
+                .willReturn(okJson(EMPLOYEE.formatted(UUID.randomUUID())).withFixedDelay((int) LATENCY.toMillis())));
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop();
+    }
+
+    @Test
+    void testPlatformThreadsServeABurstInWaves() {
+        final var elapsed = burst("platform threads", "--spring.threads.virtual.enabled=false");
+
+        assertTrue(elapsed.compareTo(LATENCY.multipliedBy(WAVES)) >= 0, "Burst took " + elapsed);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void testVirtualThreadsServeABurstAtOnce() {
+        final var elapsed = burst("virtual threads", "--spring.threads.virtual.enabled=true");
+
+        assertTrue(elapsed.compareTo(LATENCY.multipliedBy(WAVES)) < 0, "Burst took " + elapsed);
+    }
+
+    @Test
+    void testEventLoopsServeABurstAtOnce() {
+        final var elapsed = burst("event loops", "--spring.profiles.active=reactive");
+
+        assertTrue(elapsed.compareTo(LATENCY.multipliedBy(WAVES)) < 0, "Burst took " + elapsed);
+    }
+
+    /**
+     * Starts the API, warms it up with a first burst, then sends another and returns how long it took to be served.
+     */
+    private static Duration burst(final String mode, final String... args) {
+        // Arguments rather than default properties, which application.yml would override
+        final var api = new SpringApplicationBuilder(ApiApplication.class)
+                .run(Stream.concat(
+                                Stream.of(
+                                        "--server.port=0",
+                                        "--server.tomcat.threads.max=" + PLATFORM_THREADS,
+                                        "--api.employee.base-url=http://localhost:%d/api/v1/employee"
+                                                .formatted(upstream.port()),
+                                        "--api.employee.http.max-connections=" + 2 * BURST,
+                                        "--api.employee.http.pool-timeout=30s"),
+                                Stream.of(args))
+                        .toArray(String[]::new));
+        try {
+            final var port = ((WebServerApplicationContext) api).getWebServer().getPort();
+            final var baseUrl = "http://localhost:%d/api/v1/employees/".formatted(port);
+            final var client = HttpClient.newHttpClient();
+
+            send(client, baseUrl, BURST);
+            final var started = System.nanoTime();
+            send(client, baseUrl, BURST);
+            final var elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+            log.info(
+                    "[{}] concurrent requests on [{}] with [{}] ms upstream latency: [{}] ms, [{}] requests/s",
+                    BURST,
+                    mode,
+                    LATENCY.toMillis(),
+                    elapsed.toMillis(),
+                    Math.round(BURST * 1e9 / elapsed.toNanos()));
+            return elapsed;
+        } finally {
+            api.close();
+        }
+    }
+
+    private static void send(final HttpClient client, final String baseUrl, final int requests) {
+        final List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            // A new id every time, so each request misses the cache and calls upstream
+            final var request = HttpRequest.newBuilder(URI.create(baseUrl + UUID.randomUUID()))
+                    .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        for (final var response : responses) {
+            assertEquals(200, response.join().statusCode());
+        }
+    }
+}
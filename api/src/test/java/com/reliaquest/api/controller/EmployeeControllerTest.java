@@ -2,20 +2,35 @@ package com.reliaquest.api.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.UpstreamThrottledException;
 import com.reliaquest.api.model.request.CreateEmployeeRequest;
+import com.reliaquest.api.model.request.EmployeeRanking;
+import com.reliaquest.api.model.response.AgeBandResponse;
+import com.reliaquest.api.model.response.BatchItemResponse;
 import com.reliaquest.api.model.response.EmployeeResponse;
+import com.reliaquest.api.model.response.EmployeeStatsResponse;
+import com.reliaquest.api.model.response.SalaryHistogramBucketResponse;
+import com.reliaquest.api.model.response.SalaryPercentileResponse;
 import com.reliaquest.api.service.EmployeeService;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
 @SpringBootTest
 class EmployeeControllerTest {
@@ -100,6 +115,75 @@ class EmployeeControllerTest {
         assertEquals(names, response.getBody());
     }
 
+    @Test
+    void testGetEmployeeStats() {
+        final var stats = new EmployeeStatsResponse(
+                2, 120_000, 160_000, 140_000, 280_000, 30, 45, 37.5, Map.of("Engineer", 1, "Engineering Manager", 1));
+        when(employeeService.getEmployeeStats()).thenReturn(stats);
+
+        ResponseEntity<EmployeeStatsResponse> response = employeeController.getEmployeeStats();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(stats, response.getBody());
+    }
+
+    @Test
+    void testGetTopEmployees() {
+        final var alice =
+                new EmployeeResponse(UUID.randomUUID(), "Alice", 100_000, 52, "Engineer", "alice@example.com");
+        final var bob = new EmployeeResponse(UUID.randomUUID(), "Bob", 90_000, 47, "Engineer", "bob@example.com");
+        when(employeeService.getTopEmployees(2, EmployeeRanking.AGE)).thenReturn(List.of(alice, bob));
+
+        assertEquals(
+                List.of(alice, bob),
+                employeeController
+                        .getTopEmployees(2, EmployeeRanking.AGE, false)
+                        .getBody());
+        assertEquals(
+                List.of("Alice", "Bob"),
+                employeeController.getTopEmployees(2, EmployeeRanking.AGE, true).getBody());
+    }
+
+    @Test
+    void testGetSalaryDistributions() {
+        final var percentiles = List.of(new SalaryPercentileResponse(50, 120_000));
+        final var histogram = List.of(new SalaryHistogramBucketResponse(50_000, 100_000, 3));
+        final var bands = List.of(new AgeBandResponse(20, 30, 2, 90_000, 125_000));
+        when(employeeService.getSalaryPercentiles(List.of(50.0))).thenReturn(percentiles);
+        when(employeeService.getSalaryHistogram(1)).thenReturn(histogram);
+        when(employeeService.getAgeBands(10)).thenReturn(bands);
+
+        assertEquals(
+                percentiles,
+                employeeController.getSalaryPercentiles(List.of(50.0)).getBody());
+        assertEquals(histogram, employeeController.getSalaryHistogram(1).getBody());
+        assertEquals(bands, employeeController.getAgeBands(10).getBody());
+    }
+
+    @Test
+    void testSalaryDistributionParametersAreValidated() throws Exception {
+        final var validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        final var mockMvc = MockMvcBuilders.standaloneSetup(employeeController)
+                .setValidator(validator)
+                .build();
+        when(employeeService.getSalaryPercentiles(List.of(50.0, 90.0, 99.0)))
+                .thenReturn(List.of(new SalaryPercentileResponse(50, 120_000)));
+
+        mockMvc.perform(get("/api/v1/employees/stats/salary-percentiles")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employees/stats/salary-percentiles").param("p", "50,101"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employees/stats/salary-histogram").param("buckets", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employees/stats/age-bands").param("width", "1000"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employees/top").param("k", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employees/top").param("by", "TITLE")).andExpect(status().isBadRequest());
+        verify(employeeService, never()).getSalaryHistogram(anyInt());
+        verify(employeeService, never()).getAgeBands(anyInt());
+        verify(employeeService, never()).getTopEmployees(anyInt(), any());
+    }
+
     @Test
     void testCreateEmployee() {
         CreateEmployeeRequest request = new CreateEmployeeRequest();
@@ -140,4 +224,50 @@ class EmployeeControllerTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertEquals("Could not delete employee with id: 123", response.getBody());
     }
+
+    @Test
+    void testCreateEmployees() {
+        List<CreateEmployeeRequest> requests = List.of(new CreateEmployeeRequest());
+        List<BatchItemResponse<EmployeeResponse>> results = List.of(new BatchItemResponse<>(
+                0,
+                new EmployeeResponse(UUID.randomUUID(), "Alice", 100000, 30, "Engineer", "alice@example.com"),
+                null));
+        when(employeeService.createEmployees(requests)).thenReturn(results);
+
+        ResponseEntity<List<BatchItemResponse<EmployeeResponse>>> response =
+                employeeController.createEmployees(requests);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(results, response.getBody());
+    }
+
+    @Test
+    void testDeleteEmployeesByName() {
+        List<BatchItemResponse<String>> results =
+                List.of(new BatchItemResponse<>(0, "Alice", null), BatchItemResponse.error(1, "not found"));
+        when(employeeService.deleteEmployeesByName(List.of("Alice", "Bob"))).thenReturn(results);
+
+        ResponseEntity<List<BatchItemResponse<String>>> response =
+                employeeController.deleteEmployeesByName(List.of("Alice", "Bob"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(results, response.getBody());
+    }
+
+    @Test
+    void testUpstreamThrottledMapsToServiceUnavailableWithRetryAfter() {
+        when(employeeService.getAllEmployees())
+                .thenThrow(
+                        new UpstreamThrottledException("Employee API is throttling requests", Duration.ofMillis(2500)));
+
+        UpstreamThrottledException exception =
+                assertThrows(UpstreamThrottledException.class, () -> employeeController.getAllEmployees());
+        ResponseEntity<ProblemDetail> response = new EmployeeControllerAdvice().handleUpstreamThrottled(exception);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(
+                "Employee API is throttling requests",
+                Objects.requireNonNull(response.getBody()).getDetail());
+    }
 }
@@ -0,0 +1,131 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.model.request.CreateEmployeeRequest;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link ReactiveEmployeeController}, served from WebFlux with {@link EmployeeControllerAdvice}
+ */
+class ReactiveEmployeeControllerTest {
+
+    private static final EmployeeResponse ALICE =
+            new EmployeeResponse(UUID.randomUUID(), "Alice", 100000, 30, "Engineer", "alice@example.com");
+
+    private ReactiveEmployeeService reactiveEmployeeService;
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        reactiveEmployeeService = mock(ReactiveEmployeeService.class);
+        webTestClient = WebTestClient.bindToController(new ReactiveEmployeeController(reactiveEmployeeService))
+                .controllerAdvice(new EmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void testGetAllEmployees() {
+        when(reactiveEmployeeService.getAllEmployees()).thenReturn(Mono.just(List.of(ALICE)));
+
+        webTestClient
+                .get()
+                .uri("/api/v1/employees")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBodyList(EmployeeResponse.class)
+                .isEqualTo(List.of(ALICE));
+    }
+
+    @Test
+    void testGetEmployeeByIdNotFound() {
+        when(reactiveEmployeeService.getEmployeeById("missing")).thenReturn(Mono.just(EmployeeResponse.BLANK));
+
+        webTestClient
+                .get()
+                .uri("/api/v1/employees/missing")
+                .exchange()
+                .expectStatus()
+                .isNotFound();
+    }
+
+    @Test
+    void testGetTopTenHighestEarningEmployeeNames() {
+        when(reactiveEmployeeService.getTopTenHighestEarningEmployeeNames())
+                .thenReturn(Mono.just(List.of("Alice", "Bob")));
+
+        webTestClient
+                .get()
+                .uri("/api/v1/employees/topTenHighestEarningEmployeeNames")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .json("[\"Alice\", \"Bob\"]");
+    }
+
+    @Test
+    void testCreateEmployee() {
+        when(reactiveEmployeeService.createEmployee(any(CreateEmployeeRequest.class)))
+                .thenReturn(Mono.just(ALICE));
+
+        webTestClient
+                .post()
+                .uri("/api/v1/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(
+                        """
+                        {"name": "Alice", "salary": 100000, "age": 30, "title": "Engineer"}
+                        """)
+                .exchange()
+                .expectStatus()
+                .isCreated()
+                .expectHeader()
+                .location("/" + ALICE.getId())
+                .expectBody(EmployeeResponse.class)
+                .isEqualTo(ALICE);
+    }
+
+    @Test
+    void testDeleteEmployeeByIdFailure() {
+        when(reactiveEmployeeService.deleteEmployeeById("Bob")).thenReturn(Mono.just(""));
+
+        webTestClient
+                .delete()
+                .uri("/api/v1/employees/Bob")
+                .exchange()
+                .expectStatus()
+                .is5xxServerError()
+                .expectBody(String.class)
+                .isEqualTo("Could not delete employee with id: Bob");
+    }
+
+    @Test
+    void testUpstreamThrottledMapsToServiceUnavailableWithRetryAfter() {
+        when(reactiveEmployeeService.getHighestSalaryOfEmployees())
+                .thenReturn(Mono.error(new UpstreamThrottledException(
+                        "Employee API is throttling requests", Duration.ofMillis(2500))));
+
+        webTestClient
+                .get()
+                .uri("/api/v1/employees/highestSalary")
+                .exchange()
+                .expectStatus()
+                .isEqualTo(503)
+                .expectHeader()
+                .valueEquals(HttpHeaders.RETRY_AFTER, "3");
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.api.model.response;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@code data} deserializer of {@link EmployeeResponseWrapper}
+ */
+class EmployeeResponseWrapperTest {
+
+    private static final String JANE =
+            """
+            {"id": "67050f6d-c2a6-4a59-be61-a8479af074ba", "employee_name": "Jane Doe", "employee_salary": 160000,
+             "employee_age": 30, "employee_title": "Engineering Manager", "employee_email": "jane.doe@gmail.com"}
+            """;
+    private static final String JOHN =
+            """
+            {"id": "d005f39a-beb8-4390-afec-fd54e91d94ee", "employee_name": "John Smith", "employee_salary": 120000}
+            """;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void testReadsArray() throws Exception {
+        final var wrapper = read("[" + JANE + "," + JOHN + "]");
+
+        assertEquals(2, wrapper.data().size());
+        assertEquals(
+                new EmployeeResponse(
+                        UUID.fromString("67050f6d-c2a6-4a59-be61-a8479af074ba"),
+                        "Jane Doe",
+                        160_000,
+                        30,
+                        "Engineering Manager",
+                        "jane.doe@gmail.com"),
+                wrapper.data().get(0));
+        assertEquals("John Smith", wrapper.data().get(1).getName());
+        // Fields after data are still read
+        assertEquals("Successfully processed request.", wrapper.status());
+    }
+
+    @Test
+    void testReadsSingleObjectAsList() throws Exception {
+        final var wrapper = read(JOHN);
+
+        assertEquals(1, wrapper.data().size());
+        assertEquals(120_000, wrapper.data().get(0).getSalary());
+        assertEquals("Successfully processed request.", wrapper.status());
+    }
+
+    @Test
+    void testReadsEmptyAndOtherValues() throws Exception {
+        assertEquals(List.of(), read("[]").data());
+        assertEquals(List.of(), read("\"none\"").data());
+        assertNull(read("null").data());
+        assertEquals(List.of(new EmployeeResponse()), read("{}").data());
+    }
+
+    private EmployeeResponseWrapper read(final String data) throws Exception {
+        return mapper.readValue(
+                "{\"data\": " + data + ", \"status\": \"Successfully processed request.\"}",
+                EmployeeResponseWrapper.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.constants.CacheNames;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import com.reliaquest.api.model.response.ServerSentEvent;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Tests for {@link EmployeeChangeSubscriber} applying change feed events to the caches via {@link EmployeeCacheUpdater}
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeChangeSubscriberTest {
+
+    private static final EmployeeResponse JANE = new EmployeeResponse(
+            UUID.fromString("67050f6d-c2a6-4a59-be61-a8479af074ba"),
+            "Jane Doe",
+            160_000,
+            30,
+            "Engineering Manager",
+            "jane.doe@gmail.com");
+    private static final EmployeeResponse JOHN = new EmployeeResponse(
+            UUID.fromString("0c38f567-7b4c-4e42-b1a2-c448d00a4724"),
+            "John Smith",
+            120_000,
+            40,
+            "Engineer",
+            "john.smith@gmail.com");
+    private static final String NEW_HIRE =
+            """
+            {"sequence": 7, "type": "CREATED", "employee": {"id": "d005f39a-beb8-4390-afec-fd54e91d94ee",
+             "employee_name": "Joan Hires", "employee_salary": 200000, "employee_age": 25,
+             "employee_title": "Architect", "employee_email": "joan@company.com"}}
+            """;
+
+    @Autowired
+    private EmployeeChangeSubscriber employeeChangeSubscriber;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private EmployeeClient employeeClient;
+
+    @BeforeEach
+    void init() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        when(employeeClient.getAllEmployees()).thenReturn(List.of(JANE, JOHN));
+        employeeService.getAllEmployees();
+        employeeService.getHighestSalaryOfEmployees();
+        employeeService.getTopTenHighestEarningEmployeeNames();
+        employeeService.getEmployeesByNameSearch("jo");
+        employeeService.getEmployeesByNameSearch("smith");
+        clearInvocations(employeeClient);
+    }
+
+    @Test
+    void testCreatedEventPatchesCaches() {
+        employeeChangeSubscriber.onEvent(new ServerSentEvent("abc-7", "created", NEW_HIRE));
+
+        assertEquals(
+                List.of("Jane Doe", "John Smith", "Joan Hires"),
+                employeeService.getAllEmployees().stream()
+                        .map(EmployeeResponse::getName)
+                        .toList());
+        assertEquals(200_000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(
+                "Joan Hires",
+                employeeService.getTopTenHighestEarningEmployeeNames().get(0));
+        assertNotNull(cacheManager.getCache(CacheNames.EMPLOYEE_BY_ID).get("d005f39a-beb8-4390-afec-fd54e91d94ee"));
+        assertNull(cacheManager.getCache(CacheNames.EMPLOYEES_BY_NAME_SEARCH).get("jo"));
+        assertNotNull(cacheManager.getCache(CacheNames.EMPLOYEES_BY_NAME_SEARCH).get("smith"));
+        verifyNoInteractions(employeeClient);
+    }
+
+    @Test
+    void testDeletedEventPatchesCaches() {
+        employeeChangeSubscriber.onEvent(
+                new ServerSentEvent(
+                        "abc-8",
+                        "deleted",
+                        """
+                {"sequence": 8, "type": "DELETED", "employee": {"id": "67050f6d-c2a6-4a59-be61-a8479af074ba",
+                 "employee_name": "Jane Doe", "employee_salary": 160000}}
+                """));
+
+        assertEquals(List.of(JOHN), employeeService.getAllEmployees());
+        assertEquals(120_000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(List.of("John Smith"), employeeService.getTopTenHighestEarningEmployeeNames());
+        assertNotNull(cacheManager.getCache(CacheNames.EMPLOYEES_BY_NAME_SEARCH).get("smith"));
+        verifyNoInteractions(employeeClient);
+    }
+
+    @Test
+    void testResetEventDropsCaches() {
+        employeeChangeSubscriber.onEvent(
+                new ServerSentEvent("abc-9", "reset", "{\"sequence\": 9, \"type\": \"RESET\"}"));
+
+        assertNull(cacheManager.getCache(CacheNames.EMPLOYEES).get(SimpleKey.EMPTY));
+        assertNull(cacheManager.getCache(CacheNames.EMPLOYEES_BY_NAME_SEARCH).get("smith"));
+        employeeService.getAllEmployees();
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+}
@@ -1,16 +1,29 @@
 package com.reliaquest.api.service;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import com.reliaquest.api.config.ClientConfig;
+import com.reliaquest.api.config.HttpClientConfig;
+import com.reliaquest.api.exception.UpstreamThrottledException;
 import com.reliaquest.api.model.request.CreateEmployeeRequest;
+import com.reliaquest.api.model.response.BatchItemResponse;
 import com.reliaquest.api.model.response.EmployeeResponse;
+import com.reliaquest.api.model.response.ServerSentEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestClientException;
 
 /**
  * Integration Test cases for the {@link EmployeeClient}
@@ -42,6 +55,22 @@ public class EmployeeClientIntegrationTest {
             }
             """;
 
+    private static final String PAGE_TEMPLATE =
+            """
+            {
+              "data": [
+                {
+                  "id": "%s",
+                  "employee_name": "%s",
+                  "employee_salary": 90000,
+                  "employee_age": 30,
+                  "employee_title": "Engineer",
+                  "employee_email": "page@example.com"
+                }
+              ]
+            }
+            """;
+
     private EmployeeClient employeeClient;
 
     @BeforeEach
@@ -65,6 +94,382 @@ public class EmployeeClientIntegrationTest {
         assertEquals("John Doe", employees.get(0).getName());
     }
 
+    @Test
+    void testGetAllEmployeesRevalidatesWithLastEtag() {
+        stubFor(get(urlEqualTo("/employees")).willReturn(okJson(VALID_REQ).withHeader("ETag", "\"abc-1\"")));
+        stubFor(get(urlEqualTo("/employees"))
+                .withHeader("If-None-Match", equalTo("\"abc-1\""))
+                .willReturn(aResponse().withStatus(304).withHeader("ETag", "\"abc-1\"")));
+
+        List<EmployeeResponse> first = employeeClient.getAllEmployees();
+        List<EmployeeResponse> second = employeeClient.getAllEmployees();
+
+        assertSame(first, second);
+        verify(1, getRequestedFor(urlEqualTo("/employees")).withoutHeader("If-None-Match"));
+        verify(1, getRequestedFor(urlEqualTo("/employees")).withHeader("If-None-Match", equalTo("\"abc-1\"")));
+    }
+
+    /**
+     * Mirrors the mock server's token bucket limiter, which rejects with 429 and a whole-second Retry-After.
+     */
+    @Test
+    void testGetAllEmployeesRetriesAfterRateLimit() {
+        stubFor(get(urlEqualTo("/employees"))
+                .inScenario("rate limited")
+                .whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "1"))
+                .willSetStateTo("admitted"));
+        stubFor(get(urlEqualTo("/employees"))
+                .inScenario("rate limited")
+                .whenScenarioStateIs("admitted")
+                .willReturn(okJson(VALID_REQ)));
+
+        EmployeeClient guardedClient = guardedClient(new ClientConfig());
+        long started = System.nanoTime();
+        List<EmployeeResponse> employees = guardedClient.getAllEmployees();
+
+        assertEquals(1, employees.size());
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(1)) >= 0);
+        verify(2, getRequestedFor(urlEqualTo("/employees")));
+    }
+
+    @Test
+    void testGetAllEmployeesThrowsThrottledWhenRetryAfterTooLong() {
+        stubFor(get(urlEqualTo("/employees"))
+                .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "8")));
+
+        UpstreamThrottledException exception =
+                assertThrows(UpstreamThrottledException.class, () -> guardedClient(new ClientConfig())
+                        .getAllEmployees());
+
+        assertEquals(Duration.ofSeconds(8), exception.getRetryAfter());
+        verify(1, getRequestedFor(urlEqualTo("/employees")));
+    }
+
+    @Test
+    void testCircuitOpensAndFailsFastWhileUpstreamSaturated() {
+        stubFor(get(urlMatching("/employees/.*")).willReturn(aResponse().withStatus(503)));
+        ClientConfig config = new ClientConfig();
+        config.getRetry().setMaxAttempts(2);
+        config.getRetry().setInitialBackoff(Duration.ofMillis(10));
+        config.getCircuitBreaker().setFailureThreshold(2);
+        config.getCircuitBreaker().setOpenDuration(Duration.ofMinutes(1));
+        EmployeeClient guardedClient = guardedClient(config);
+        String id = UUID.randomUUID().toString();
+
+        assertThrows(UpstreamThrottledException.class, () -> guardedClient.getEmployeeById(id));
+        UpstreamThrottledException failedFast =
+                assertThrows(UpstreamThrottledException.class, () -> guardedClient.getEmployeeById(id));
+
+        assertTrue(failedFast.getRetryAfter().compareTo(Duration.ofSeconds(50)) > 0);
+        verify(2, getRequestedFor(urlMatching("/employees/.*")));
+    }
+
+    @Test
+    void testGetEmployeeByIdNotFoundIsNotThrottled() {
+        stubFor(get(urlMatching("/employees/.*")).willReturn(aResponse().withStatus(404)));
+
+        assertSame(
+                EmployeeResponse.BLANK,
+                employeeClient.getEmployeeById(UUID.randomUUID().toString()));
+        verify(1, getRequestedFor(urlMatching("/employees/.*")));
+    }
+
+    @Test
+    void testPooledTransportNegotiatesGzipAndRecordsUpstreamLatency() {
+        stubFor(get(urlEqualTo("/employees")).willReturn(okJson(VALID_REQ)));
+        ClientConfig config = pooledConfig(Duration.ofSeconds(5));
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmployeeClient pooledClient = new EmployeeClient(pooledBuilder(config, meterRegistry), config);
+        pooledClient.setup();
+
+        assertEquals(1, pooledClient.getAllEmployees().size());
+
+        verify(getRequestedFor(urlEqualTo("/employees")).withHeader("Accept-Encoding", containing("gzip")));
+        Timer timer = meterRegistry
+                .get(HttpClientConfig.UPSTREAM_TIMER)
+                .tag("pool", HttpClientConfig.POOL_NAME)
+                .tag("outcome", "SUCCESS")
+                .timer();
+        assertEquals(1, timer.count());
+        assertNotNull(meterRegistry
+                .find("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", HttpClientConfig.POOL_NAME)
+                .gauge());
+    }
+
+    @Test
+    void testPooledTransportGivesUpAfterReadTimeout() {
+        stubFor(get(urlEqualTo("/employees")).willReturn(okJson(VALID_REQ).withFixedDelay(2_000)));
+        ClientConfig config = pooledConfig(Duration.ofMillis(200));
+        EmployeeClient pooledClient = new EmployeeClient(pooledBuilder(config, new SimpleMeterRegistry()), config);
+        pooledClient.setup();
+
+        long started = System.nanoTime();
+        assertTrue(pooledClient.getAllEmployees().isEmpty());
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofMillis(1_500)) < 0);
+    }
+
+    /**
+     * Client on the pooled transport, whose own automatic retries are disabled, so only the client's retries count.
+     */
+    private static EmployeeClient guardedClient(ClientConfig config) {
+        config.setBaseUrl("http://localhost:8080/employees");
+        EmployeeClient guardedClient = new EmployeeClient(pooledBuilder(config, new SimpleMeterRegistry()), config);
+        guardedClient.setup();
+        return guardedClient;
+    }
+
+    private static ClientConfig pooledConfig(Duration readTimeout) {
+        ClientConfig config = new ClientConfig();
+        config.setBaseUrl("http://localhost:8080/employees");
+        config.getHttp().setReadTimeout(readTimeout);
+        return config;
+    }
+
+    private static RestTemplateBuilder pooledBuilder(ClientConfig config, MeterRegistry meterRegistry) {
+        ClientHttpRequestFactory requestFactory = new HttpClientConfig().employeeRequestFactory(config, meterRegistry);
+        return new RestTemplateBuilder().requestFactory(() -> requestFactory);
+    }
+
+    @Test
+    void testGetAllEmployeesPagedSkipsRemainingPagesWhenUnchanged() {
+        ClientConfig config = new ClientConfig() {
+            @Override
+            public String getBaseUrl() {
+                return "http://localhost:8080/employees";
+            }
+        };
+        config.setPageSize(1);
+        EmployeeClient pagedClient = new EmployeeClient(new RestTemplateBuilder(), config);
+        pagedClient.setup();
+
+        for (int page = 0; page < 2; page++) {
+            stubFor(get(urlEqualTo("/employees?offset=" + page + "&limit=1"))
+                    .willReturn(okJson(PAGE_TEMPLATE.formatted(UUID.randomUUID(), "Employee " + page))
+                            .withHeader("X-Total-Count", "2")
+                            .withHeader("ETag", "\"abc-7\"")));
+        }
+        stubFor(get(urlEqualTo("/employees?offset=0&limit=1"))
+                .withHeader("If-None-Match", equalTo("\"abc-7\""))
+                .willReturn(aResponse().withStatus(304)));
+
+        List<EmployeeResponse> first = pagedClient.getAllEmployees();
+        List<EmployeeResponse> second = pagedClient.getAllEmployees();
+
+        assertEquals(2, second.size());
+        assertSame(first, second);
+        verify(3, getRequestedFor(urlPathEqualTo("/employees")));
+        pagedClient.shutdown();
+    }
+
+    @Test
+    void testGetAllEmployeesFetchesAtOnceWhenPagesChangeMidFetch() {
+        ClientConfig config = new ClientConfig() {
+            @Override
+            public String getBaseUrl() {
+                return "http://localhost:8080/employees";
+            }
+        };
+        config.setPageSize(1);
+        EmployeeClient pagedClient = new EmployeeClient(new RestTemplateBuilder(), config);
+        pagedClient.setup();
+
+        for (int page = 0; page < 2; page++) {
+            stubFor(get(urlEqualTo("/employees?offset=" + page + "&limit=1"))
+                    .willReturn(okJson(PAGE_TEMPLATE.formatted(UUID.randomUUID(), "Employee " + page))
+                            .withHeader("X-Total-Count", "2")
+                            .withHeader("ETag", "\"abc-" + page + "\"")));
+        }
+        stubFor(get(urlEqualTo("/employees")).willReturn(okJson(VALID_REQ).withHeader("ETag", "\"abc-1\"")));
+
+        List<EmployeeResponse> employees = pagedClient.getAllEmployees();
+
+        assertEquals(
+                List.of("John Doe"),
+                employees.stream().map(EmployeeResponse::getName).toList());
+        verify(1, getRequestedFor(urlEqualTo("/employees")));
+        pagedClient.shutdown();
+    }
+
+    @Test
+    void testGetAllEmployeesFetchesPagesConcurrently() {
+        ClientConfig config = new ClientConfig() {
+            @Override
+            public String getBaseUrl() {
+                return "http://localhost:8080/employees";
+            }
+        };
+        config.setPageSize(1);
+        config.setMaxConcurrentPages(2);
+        EmployeeClient pagedClient = new EmployeeClient(new RestTemplateBuilder(), config);
+        pagedClient.setup();
+
+        for (int page = 0; page < 3; page++) {
+            stubFor(get(urlEqualTo("/employees?offset=" + page + "&limit=1"))
+                    .willReturn(okJson(PAGE_TEMPLATE.formatted(UUID.randomUUID(), "Employee " + page))
+                            .withHeader("X-Total-Count", "3")));
+        }
+
+        List<EmployeeResponse> employees = pagedClient.getAllEmployees();
+        assertEquals(
+                List.of("Employee 0", "Employee 1", "Employee 2"),
+                employees.stream().map(EmployeeResponse::getName).toList());
+        verify(3, getRequestedFor(urlPathEqualTo("/employees")));
+        pagedClient.shutdown();
+    }
+
+    @Test
+    void testGetAllEmployeesFetchesPagesOnVirtualThreadsWhereSupported() {
+        ClientConfig config = new ClientConfig() {
+            @Override
+            public String getBaseUrl() {
+                return "http://localhost:8080/employees";
+            }
+        };
+        config.setPageSize(1);
+        config.setMaxConcurrentPages(2);
+        // Falls back to platform threads before Java 21
+        config.setVirtualThreads(true);
+        EmployeeClient pagedClient = new EmployeeClient(new RestTemplateBuilder(), config);
+        pagedClient.setup();
+
+        for (int page = 0; page < 5; page++) {
+            stubFor(get(urlEqualTo("/employees?offset=" + page + "&limit=1"))
+                    .willReturn(okJson(PAGE_TEMPLATE.formatted(UUID.randomUUID(), "Employee " + page))
+                            .withHeader("X-Total-Count", "5")
+                            .withFixedDelay(50)));
+        }
+
+        List<EmployeeResponse> employees = pagedClient.getAllEmployees();
+        assertEquals(
+                List.of("Employee 0", "Employee 1", "Employee 2", "Employee 3", "Employee 4"),
+                employees.stream().map(EmployeeResponse::getName).toList());
+        verify(5, getRequestedFor(urlPathEqualTo("/employees")));
+        pagedClient.shutdown();
+    }
+
+    @Test
+    void testGetAllEmployeesReturnsEmptyWhenAPageFails() {
+        ClientConfig config = new ClientConfig() {
+            @Override
+            public String getBaseUrl() {
+                return "http://localhost:8080/employees";
+            }
+        };
+        config.setPageSize(1);
+        EmployeeClient pagedClient = new EmployeeClient(new RestTemplateBuilder(), config);
+        pagedClient.setup();
+
+        stubFor(get(urlEqualTo("/employees?offset=0&limit=1"))
+                .willReturn(okJson(PAGE_TEMPLATE.formatted(UUID.randomUUID(), "Employee 0"))
+                        .withHeader("X-Total-Count", "2")));
+        stubFor(get(urlEqualTo("/employees?offset=1&limit=1")).willReturn(serverError()));
+
+        assertTrue(pagedClient.getAllEmployees().isEmpty());
+        pagedClient.shutdown();
+    }
+
+    @Test
+    void testCreateEmployeesForwardsChunksAndReindexesResults() {
+        ClientConfig config = new ClientConfig() {
+            @Override
+            public String getBaseUrl() {
+                return "http://localhost:8080/employees";
+            }
+        };
+        config.setBatchSize(2);
+        EmployeeClient batchClient = new EmployeeClient(new RestTemplateBuilder(), config);
+        batchClient.setup();
+
+        stubFor(post(urlEqualTo("/employees/batch"))
+                .inScenario("batch")
+                .whenScenarioStateIs(STARTED)
+                .willReturn(
+                        okJson(
+                                """
+                        {
+                          "data": [
+                            {"index": 0, "data": {"id": "0c38f567-7b4c-4e42-b1a2-c448d00a4724", "employee_name": "First"}},
+                            {"index": 1, "error": "salary must be greater than 0"}
+                          ]
+                        }
+                        """))
+                .willSetStateTo("second chunk"));
+        stubFor(post(urlEqualTo("/employees/batch"))
+                .inScenario("batch")
+                .whenScenarioStateIs("second chunk")
+                .willReturn(serverError()));
+
+        List<CreateEmployeeRequest> requests =
+                List.of(new CreateEmployeeRequest(), new CreateEmployeeRequest(), new CreateEmployeeRequest());
+        List<BatchItemResponse<EmployeeResponse>> results = batchClient.createEmployees(requests);
+
+        assertEquals(3, results.size());
+        assertEquals("First", results.get(0).data().getName());
+        assertEquals("salary must be greater than 0", results.get(1).error());
+        assertEquals(2, results.get(2).index());
+        assertNotNull(results.get(2).error());
+        verify(2, postRequestedFor(urlEqualTo("/employees/batch")));
+        batchClient.shutdown();
+    }
+
+    @Test
+    void testDeleteEmployeesByName() {
+        stubFor(
+                delete(urlEqualTo("/employees/batch"))
+                        .willReturn(
+                                okJson(
+                                        """
+                        {"data": [{"index": 0, "data": true}, {"index": 1, "data": false}]}
+                        """)));
+
+        List<BatchItemResponse<Boolean>> results = employeeClient.deleteEmployeesByName(List.of("Jane Doe", "Nobody"));
+        assertEquals(
+                List.of(true, false),
+                results.stream().map(BatchItemResponse::data).toList());
+    }
+
+    @Test
+    void testStreamChangesParsesEventsAndSendsLastEventId() {
+        stubFor(
+                get(urlEqualTo("/employees/changes"))
+                        .withHeader("Last-Event-ID", equalTo("abc-4"))
+                        .willReturn(
+                                aResponse()
+                                        .withHeader("Content-Type", "text/event-stream")
+                                        .withBody(
+                                                """
+                                :heartbeat
+
+                                id:abc-5
+                                event:deleted
+                                data:{"sequence":5,
+
+                                id: abc-6
+                                event: created
+                                data: first line
+                                data: second line
+
+                                """)));
+
+        List<ServerSentEvent> events = new ArrayList<>();
+        employeeClient.streamChanges("abc-4", events::add);
+
+        assertEquals(
+                List.of(
+                        new ServerSentEvent("abc-5", "deleted", "{\"sequence\":5,"),
+                        new ServerSentEvent("abc-6", "created", "first line\nsecond line")),
+                events);
+    }
+
+    @Test
+    void testStreamChangesThrowsWhenFeedUnavailable() {
+        stubFor(get(urlEqualTo("/employees/changes")).willReturn(serverError()));
+
+        assertThrows(RestClientException.class, () -> employeeClient.streamChanges(null, event -> {}));
+    }
+
     @Test
     void testGetEmployeeById() {
         stubFor(get(urlEqualTo("/employees/0c38f567-7b4c-4e42-b1a2-c448d00a4724"))
@@ -34,6 +34,8 @@ class EmployeeClientTest {
         restTemplate = mock(RestTemplate.class);
         clientConfig = mock(ClientConfig.class);
         when(clientConfig.getBaseUrl()).thenReturn("http://fake-api/employees");
+        when(clientConfig.getRetry()).thenReturn(new ClientConfig.Retry());
+        when(clientConfig.getCircuitBreaker()).thenReturn(new ClientConfig.CircuitBreaker());
 
         RestTemplateBuilder builder = mock(RestTemplateBuilder.class);
         when(builder.build()).thenReturn(restTemplate);
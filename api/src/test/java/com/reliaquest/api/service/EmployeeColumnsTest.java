@@ -0,0 +1,161 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.request.EmployeeRanking;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link EmployeeColumns}
+ */
+class EmployeeColumnsTest {
+
+    private static final EmployeeResponse JANE = employee("Jane Doe", 160_000, 30, "Engineering Manager");
+    private static final EmployeeResponse JOHN = employee("John Smith", 120_000, 45, "Engineer");
+    private static final EmployeeResponse JOAN = employee("Joan Johnson", 90_000, 22, "Engineer");
+    private static final EmployeeResponse NOBODY = employee("No Title", 50_000, 60, null);
+
+    @Test
+    void testAggregatesEveryRow() {
+        final var columns = EmployeeColumns.of(List.of(JANE, JOHN, JOAN, NOBODY));
+
+        assertEquals(4, columns.size());
+        assertEquals(50_000, columns.lowestSalary());
+        assertEquals(160_000, columns.highestSalary());
+        assertEquals(420_000, columns.totalSalary());
+        assertEquals(22, columns.youngestAge());
+        assertEquals(60, columns.oldestAge());
+        assertEquals(157, columns.totalAge());
+        assertSame(JOAN, columns.employee(2));
+    }
+
+    @Test
+    void testTitlesAreEncodedInOrderOfFirstAppearance() {
+        final var columns = EmployeeColumns.of(List.of(JANE, JOHN, JOAN, NOBODY));
+
+        assertEquals(3, columns.titleCount());
+        assertEquals("Engineering Manager", columns.title(0));
+        assertEquals("Engineer", columns.title(1));
+        assertNull(columns.title(2));
+        assertArrayEquals(new int[] {1, 2, 1}, columns.headcountByTitle());
+    }
+
+    @Test
+    void testSalaryPercentilesByNearestRank() {
+        final var columns = EmployeeColumns.of(List.of(JANE, JOHN, JOAN, NOBODY));
+
+        assertEquals(50_000, columns.salaryPercentile(0));
+        assertEquals(50_000, columns.salaryPercentile(25));
+        assertEquals(90_000, columns.salaryPercentile(50));
+        assertEquals(120_000, columns.salaryPercentile(51));
+        assertEquals(160_000, columns.salaryPercentile(99));
+        assertEquals(160_000, columns.salaryPercentile(100));
+    }
+
+    @Test
+    void testSalaryHistogramAndAgeBands() {
+        final var columns = EmployeeColumns.of(List.of(JANE, JOHN, JOAN, NOBODY));
+
+        // 50,000 to 160,000 in two buckets of 55,001
+        final var histogram = columns.salaryHistogram(2);
+        assertEquals(50_000, histogram.lowest());
+        assertEquals(55_001, histogram.width());
+        assertArrayEquals(new int[] {2, 2}, histogram.headcounts());
+        assertSame(histogram, columns.salaryHistogram(2));
+
+        final var bands = columns.ageBands(20);
+        assertArrayEquals(new int[] {0, 2, 1, 1}, bands.headcounts());
+        assertEquals(90_000, bands.lowestSalaries()[1]);
+        assertEquals(250_000, bands.totalSalaries()[1]);
+        assertEquals(50_000, bands.lowestSalaries()[3]);
+        assertSame(bands, columns.ageBands(20));
+    }
+
+    @Test
+    void testParallelDistributionsAgreeWithSequential() {
+        final var random = new Random(7);
+        final List<EmployeeResponse> employees = new ArrayList<>();
+        for (int i = 0; i < EmployeeColumns.PARALLEL_THRESHOLD * 3 + 17; i++) {
+            employees.add(employee("Employee " + i, random.nextInt(300_000), 18 + random.nextInt(50), "Engineer"));
+        }
+        final var columns = EmployeeColumns.of(employees);
+
+        final var histogram = columns.salaryHistogram(7);
+        final var headcounts = new int[7];
+        final var bands = columns.ageBands(10);
+        final var bandHeadcounts = new int[bands.headcounts().length];
+        final var bandTotals = new long[bands.headcounts().length];
+        for (final var employee : employees) {
+            headcounts[(int) ((employee.getSalary() - histogram.lowest()) / histogram.width())]++;
+            bandHeadcounts[employee.getAge() / 10]++;
+            bandTotals[employee.getAge() / 10] += employee.getSalary();
+        }
+        assertArrayEquals(headcounts, histogram.headcounts());
+        assertArrayEquals(bandHeadcounts, bands.headcounts());
+        assertArrayEquals(bandTotals, bands.totalSalaries());
+
+        final var sorted = employees.stream()
+                .mapToInt(EmployeeResponse::getSalary)
+                .sorted()
+                .toArray();
+        assertEquals(sorted[(int) Math.ceil(sorted.length / 2.0) - 1], columns.salaryPercentile(50));
+    }
+
+    @Test
+    void testTopRowsBestFirstWithTiesInRowOrder() {
+        final var columns = EmployeeColumns.of(List.of(JANE, JOHN, JOAN, NOBODY, employee("Jim", 160_000, 45, null)));
+
+        assertArrayEquals(new int[] {0, 4, 1}, columns.topRows(EmployeeRanking.SALARY, 3));
+        assertArrayEquals(new int[] {3, 1, 4, 0, 2}, columns.topRows(EmployeeRanking.AGE, 10));
+        // Served from the longer ranking already kept
+        assertArrayEquals(new int[] {3, 1}, columns.topRows(EmployeeRanking.AGE, 2));
+        assertArrayEquals(new int[] {0}, columns.topRows(EmployeeRanking.SALARY, 1));
+    }
+
+    @Test
+    void testTopRowsAgreeWithSortingInParallel() {
+        final var random = new Random(11);
+        final List<EmployeeResponse> employees = new ArrayList<>();
+        for (int i = 0; i < EmployeeColumns.PARALLEL_THRESHOLD * 3 + 5; i++) {
+            employees.add(employee("Employee " + i, 1_000 * random.nextInt(500), 18 + random.nextInt(50), null));
+        }
+        final var columns = EmployeeColumns.of(employees);
+
+        for (final var k : new int[] {1, 10, 1_000}) {
+            final var sorted = IntStream.range(0, employees.size())
+                    .boxed()
+                    .sorted(Comparator.comparingInt(
+                                    (Integer row) -> employees.get(row).getSalary())
+                            .reversed())
+                    .limit(k)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            assertArrayEquals(sorted, columns.selectTop(EmployeeRanking.SALARY, k));
+        }
+    }
+
+    @Test
+    void testEmptyListAggregatesToZero() {
+        final var columns = EmployeeColumns.of(List.of());
+
+        assertEquals(0, columns.size());
+        assertEquals(0, columns.lowestSalary());
+        assertEquals(0, columns.highestSalary());
+        assertEquals(0, columns.totalAge());
+        assertArrayEquals(new int[0], columns.headcountByTitle());
+        assertEquals(0, columns.salaryPercentile(50));
+        assertArrayEquals(new int[3], columns.salaryHistogram(3).headcounts());
+        assertArrayEquals(new int[0], columns.topRows(EmployeeRanking.SALARY, 10));
+    }
+
+    private static EmployeeResponse employee(final String name, final int salary, final int age, final String title) {
+        return new EmployeeResponse(UUID.randomUUID(), name, salary, age, title, "employee@company.com");
+    }
+}
@@ -0,0 +1,107 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.response.EmployeeResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link EmployeeNameIndex}
+ */
+class EmployeeNameIndexTest {
+
+    private static final EmployeeResponse JANE = employee("Jane Doe");
+    private static final EmployeeResponse JOHN = employee("John Smith");
+    private static final EmployeeResponse JOAN = employee("Joan Johnson");
+
+    @Test
+    void testSearchMatchesSubstringsIgnoringCase() {
+        final var index = EmployeeNameIndex.of(List.of(JANE, JOHN, JOAN));
+
+        assertEquals(List.of(JOHN, JOAN), index.search("JOHN"));
+        assertEquals(List.of(JANE), index.search("e do"));
+        assertEquals(List.of(JOHN, JOAN), index.search("oh"));
+        assertEquals(List.of(JANE, JOHN, JOAN), index.search(""));
+        assertEquals(List.of(), index.search("smithson"));
+    }
+
+    @Test
+    void testSharingEveryTrigramIsNotEnough() {
+        // Both names hold "abc" and "bcd", but only one holds "abcd"
+        final var abcd = employee("Abcd Ef");
+        final var index = EmployeeNameIndex.of(List.of(employee("Abc Bcd"), abcd));
+
+        assertEquals(List.of(abcd), index.search("abcd"));
+    }
+
+    @Test
+    void testAddAndRemoveKeepListOrder() {
+        final var index = EmployeeNameIndex.of(List.of(JANE, JOHN));
+
+        index.add(JOAN);
+        index.remove(JOHN.getId());
+        assertEquals(List.of(JOAN), index.search("jo"));
+        assertEquals(List.of(JANE, JOAN), index.search("n"));
+
+        // Re-adding moves the employee after every other, as a patched list would
+        final var renamed = new EmployeeResponse(JANE.getId(), "Jane Johnson", 1, 30, "Engineer", "jane@company.com");
+        index.add(renamed);
+        assertEquals(List.of(JOAN, renamed), index.search("johnson"));
+        assertEquals(List.of(), index.search("doe"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testChangingCopyLeavesOriginal() {
+        final var index = EmployeeNameIndex.of(List.of(JANE, JOHN));
+        final var copy = index.copy();
+
+        copy.remove(JOHN.getId());
+        copy.add(JOAN);
+        assertEquals(List.of(JOAN), copy.search("joh"));
+        assertEquals(List.of(JOHN), index.search("joh"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testSearchAgreesWithScan() {
+        final var random = new Random(7);
+        final List<EmployeeResponse> employees = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            employees.add(employee(randomName(random)));
+        }
+        final var index = EmployeeNameIndex.of(employees);
+
+        for (int i = 0; i < 500; i++) {
+            final var name = employees.get(random.nextInt(employees.size())).getName();
+            final var from = random.nextInt(name.length());
+            final var searchString = name.substring(from, Math.min(name.length(), from + 1 + random.nextInt(5)));
+            assertEquals(scan(employees, searchString), index.search(searchString), searchString);
+        }
+    }
+
+    private static List<EmployeeResponse> scan(final List<EmployeeResponse> employees, final String searchString) {
+        final var lowerSearchStr = searchString.toLowerCase(Locale.ROOT);
+        return employees.stream()
+                .filter(employee -> employee.getName().toLowerCase(Locale.ROOT).contains(lowerSearchStr))
+                .toList();
+    }
+
+    private static String randomName(final Random random) {
+        final var name = new StringBuilder();
+        final var length = 4 + random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            name.append(i == length / 2 ? ' ' : (char) ('a' + random.nextInt(6)));
+        }
+        return name.toString();
+    }
+
+    private static EmployeeResponse employee(final String name) {
+        return new EmployeeResponse(UUID.randomUUID(), name, 100_000, 30, "Engineer", "employee@company.com");
+    }
+}
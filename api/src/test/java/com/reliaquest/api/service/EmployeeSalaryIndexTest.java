@@ -0,0 +1,97 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.response.EmployeeResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link EmployeeSalaryIndex}
+ */
+class EmployeeSalaryIndexTest {
+
+    private static final EmployeeResponse JANE = employee("Jane Doe", 160_000);
+    private static final EmployeeResponse JOHN = employee("John Smith", 120_000);
+    private static final EmployeeResponse JOAN = employee("Joan Johnson", 160_000);
+
+    @Test
+    void testHighestFirstAndListOrderAmongEqualSalaries() {
+        final var index = EmployeeSalaryIndex.of(List.of(JOHN, JANE, JOAN));
+
+        assertEquals(160_000, index.highestSalary());
+        assertEquals(List.of("Jane Doe", "Joan Johnson", "John Smith"), index.topEarningNames(10));
+        assertEquals(List.of("Jane Doe"), index.topEarningNames(1));
+        assertEquals(0, EmployeeSalaryIndex.of(List.of()).highestSalary());
+    }
+
+    @Test
+    void testAddAndRemoveKeepOrder() {
+        final var index = EmployeeSalaryIndex.of(List.of(JANE, JOHN));
+
+        index.add(JOAN);
+        index.remove(JANE.getId());
+        assertEquals(List.of("Joan Johnson", "John Smith"), index.topEarningNames(10));
+
+        // Re-adding moves the employee after every other with its salary, as a patched list would
+        final var raised =
+                new EmployeeResponse(JOHN.getId(), "John Smith", 160_000, 30, "Engineer", "john@company.com");
+        index.add(raised);
+        assertEquals(List.of("Joan Johnson", "John Smith"), index.topEarningNames(10));
+        assertEquals(2, index.size());
+
+        index.remove(JOAN.getId());
+        index.remove(JOHN.getId());
+        assertEquals(0, index.highestSalary());
+        assertEquals(List.of(), index.topEarningNames(10));
+    }
+
+    @Test
+    void testChangingCopyLeavesOriginal() {
+        final var index = EmployeeSalaryIndex.of(List.of(JANE, JOHN));
+        final var copy = index.copy();
+
+        copy.remove(JANE.getId());
+        copy.add(JOAN);
+        assertEquals(List.of("Joan Johnson", "John Smith"), copy.topEarningNames(10));
+        assertEquals(List.of("Jane Doe", "John Smith"), index.topEarningNames(10));
+    }
+
+    @Test
+    void testAgreesWithSortingTheList() {
+        final var random = new Random(7);
+        final List<EmployeeResponse> employees = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            employees.add(employee("Employee " + i, 1_000 * random.nextInt(100)));
+        }
+        final var index = EmployeeSalaryIndex.of(employees);
+
+        for (int i = 0; i < 500; i++) {
+            if (random.nextBoolean()) {
+                index.remove(employees.remove(random.nextInt(employees.size())).getId());
+            } else {
+                final var created = employee("Created " + i, 1_000 * random.nextInt(100));
+                employees.add(created);
+                index.add(created);
+            }
+            assertEquals(sorted(employees, 10), index.topEarningNames(10));
+            assertEquals(sorted(employees, 1).get(0), index.topEarningNames(1).get(0));
+        }
+    }
+
+    private static List<String> sorted(final List<EmployeeResponse> employees, final int limit) {
+        return employees.stream()
+                .sorted(Comparator.comparingInt(EmployeeResponse::getSalary).reversed())
+                .map(EmployeeResponse::getName)
+                .limit(limit)
+                .toList();
+    }
+
+    private static EmployeeResponse employee(final String name, final int salary) {
+        return new EmployeeResponse(UUID.randomUUID(), name, salary, 30, "Engineer", "employee@company.com");
+    }
+}
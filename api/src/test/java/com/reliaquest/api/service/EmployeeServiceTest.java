@@ -1,17 +1,36 @@
 package com.reliaquest.api.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.constants.CacheNames;
+import com.reliaquest.api.exception.UpstreamThrottledException;
 import com.reliaquest.api.model.request.CreateEmployeeRequest;
+import com.reliaquest.api.model.response.AgeBandResponse;
+import com.reliaquest.api.model.response.BatchItemResponse;
 import com.reliaquest.api.model.response.EmployeeResponse;
+import com.reliaquest.api.model.response.SalaryHistogramBucketResponse;
+import com.reliaquest.api.model.response.SalaryPercentileResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +39,7 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -56,6 +76,12 @@ class EmployeeServiceTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EmployeeSearchReverseIndex employeeSearchReverseIndex;
+
     @MockitoBean
     private EmployeeClient employeeClient;
 
@@ -64,6 +90,136 @@ class EmployeeServiceTest {
 
         clearInvocations(employeeClient);
         when(employeeClient.getAllEmployees()).thenReturn(LIST_EMPLOYEE_RESPONSE);
+        // Searches and salary queries now share the cached list, so no test may see another's
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    public void testConcurrentReadersShareSingleUpstreamLoad() throws Exception {
+        final int readers = 500;
+        final var upstreamCalls = new AtomicInteger();
+        final var release = new CountDownLatch(1);
+        when(employeeClient.getAllEmployees()).thenAnswer(invocation -> {
+            upstreamCalls.incrementAndGet();
+            // Hold the load open until every reader has missed
+            release.await(10, TimeUnit.SECONDS);
+            return LIST_EMPLOYEE_RESPONSE;
+        });
+
+        final var start = new CountDownLatch(1);
+        final var started = new CountDownLatch(readers);
+        final List<Future<?>> results = new ArrayList<>();
+        final var executor = Executors.newFixedThreadPool(readers);
+        try {
+            for (int i = 0; i < readers; i++) {
+                final int reader = i;
+                results.add(executor.submit(() -> {
+                    started.countDown();
+                    start.await();
+                    return switch (reader % 4) {
+                        case 0 -> employeeService.getAllEmployees();
+                        case 1 -> employeeService.getHighestSalaryOfEmployees();
+                        case 2 -> employeeService.getTopTenHighestEarningEmployeeNames();
+                        default -> employeeService.getEmployeesByNameSearch("search-" + reader);
+                    };
+                }));
+            }
+            started.await(10, TimeUnit.SECONDS);
+            start.countDown();
+            // Give every reader the chance to reach the cache before the load completes
+            Thread.sleep(500);
+            release.countDown();
+            for (final var result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, upstreamCalls.get());
+        verify(employeeClient, times(1)).getAllEmployees();
+        assertEquals(160_000, employeeService.getHighestSalaryOfEmployees());
+    }
+
+    @Test
+    public void testFailedLoadIsSharedThenRetried() {
+        when(employeeClient.getAllEmployees())
+                .thenThrow(new UpstreamThrottledException("throttled", Duration.ofSeconds(1)))
+                .thenReturn(LIST_EMPLOYEE_RESPONSE);
+
+        assertThrows(UpstreamThrottledException.class, () -> employeeService.getAllEmployees());
+
+        assertEquals(LIST_EMPLOYEE_RESPONSE, employeeService.getAllEmployees());
+        verify(employeeClient, times(2)).getAllEmployees();
+        verifyCacheKeyPresent(CacheNames.EMPLOYEES, SimpleKey.EMPTY, cacheManager);
+    }
+
+    @Test
+    public void testCachesApplyOwnPolicyAndPublishStatistics() {
+        final var searchHits = meterRegistry
+                .get("cache.gets")
+                .tag("cache", CacheNames.EMPLOYEES_BY_NAME_SEARCH)
+                .tag("result", "hit")
+                .functionCounter();
+        final var hitsBefore = searchHits.count();
+
+        employeeService.getEmployeesByNameSearch(FILTER_KEY);
+        employeeService.getEmployeesByNameSearch(FILTER_KEY);
+
+        assertEquals(1, searchHits.count() - hitsBefore);
+        assertEquals(100_000, maximumOf(CacheNames.EMPLOYEES_BY_NAME_SEARCH));
+        assertEquals(1, maximumOf(CacheNames.TOP_SALARY));
+        // Registered after startup by the snapshot cache, and still published
+        Assertions.assertNotNull(meterRegistry
+                .find("cache.gets")
+                .tag("cache", CacheNames.EMPLOYEES)
+                .functionCounter());
+    }
+
+    @Test
+    @Tag("soak")
+    @SuppressWarnings("unchecked")
+    public void testReverseIndexStaysBoundedOverMillionSearches() throws Exception {
+        final var random = new Random(11);
+        final List<EmployeeResponse> employees = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            final var name = new StringBuilder();
+            for (int c = 0; c < 60; c++) {
+                name.append((char) ('a' + random.nextInt(26)));
+            }
+            employees.add(new EmployeeResponse(UUID.randomUUID(), name.toString(), 100_000, 30, "Engineer", "e@x.com"));
+        }
+        when(employeeClient.getAllEmployees()).thenReturn(employees);
+        final var searchCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>)
+                ((CaffeineCache) cacheManager.getCache(CacheNames.EMPLOYEES_BY_NAME_SEARCH)).getNativeCache();
+
+        final var memory = ManagementFactory.getMemoryMXBean();
+        long heapAfterWarmup = 0;
+        final int searches = 1_000_000;
+        for (int i = 1; i <= searches; i++) {
+            // Substrings of random names, almost all of them distinct and each matching at least one employee
+            final var name = employees.get(random.nextInt(employees.size())).getName();
+            final var from = random.nextInt(name.length() - 8);
+            employeeService.getEmployeesByNameSearch(name.substring(from, from + 3 + random.nextInt(6)));
+            if (i == searches / 4) {
+                heapAfterWarmup = usedHeapAfterGc(searchCache, memory);
+            }
+        }
+        final var heapAtEnd = usedHeapAfterGc(searchCache, memory);
+
+        // Every pair in the reverse index belongs to a cached search, and vice versa
+        final long cachedPairs = searchCache.asMap().values().stream()
+                .mapToLong(value -> ((List<?>) value).size())
+                .sum();
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (employeeSearchReverseIndex.mappings() != cachedPairs && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(cachedPairs, employeeSearchReverseIndex.mappings());
+        Assertions.assertTrue(cachedPairs <= 100_000 + searchCache.estimatedSize());
+        Assertions.assertTrue(
+                heapAtEnd - heapAfterWarmup < 32L * 1024 * 1024,
+                "Heap grew from %d to %d bytes".formatted(heapAfterWarmup, heapAtEnd));
     }
 
     @Test
@@ -104,13 +260,16 @@ class EmployeeServiceTest {
         assertEquals(1, firstFilterResponse.size());
         assertEquals(1, secondFilterResponse.size());
 
-        verify(employeeClient, times(2)).getAllEmployees();
+        // Both searches filter the same cached list
+        verify(employeeClient, times(1)).getAllEmployees();
 
         verifyCacheKeyPresent(CacheNames.EMPLOYEES_BY_NAME_SEARCH, FILTER_KEY, cacheManager);
         verifyCacheKeyPresent(CacheNames.EMPLOYEES_BY_NAME_SEARCH, SECOND_FILTER_KEY, cacheManager);
 
         when(employeeClient.deleteEmployeeById("Alice Barnett")).thenReturn(Boolean.TRUE);
-        when(employeeService.getEmployeesByNameSearch("Alice Barnett")).thenReturn(List.of(EMPLOYEE_RESPONSE));
+        // The search below reads the shared list, so reload it with the employee being deleted
+        when(employeeClient.getAllEmployees()).thenReturn(List.of(EMPLOYEE_RESPONSE));
+        cacheManager.getCache(CacheNames.EMPLOYEES).clear();
 
         employeeService.deleteEmployeeById("Alice Barnett");
 
@@ -137,6 +296,176 @@ class EmployeeServiceTest {
         verifyCacheKeyPresent(CacheNames.EMPLOYEE_BY_ID, TEST_UUID_STR, cacheManager);
     }
 
+    @Test
+    public void testEmployeeStatsFollowPatchedList() {
+        var stats = employeeService.getEmployeeStats();
+        assertEquals(2, stats.headcount());
+        assertEquals(160_000, stats.averageSalary());
+        assertEquals(Map.of("Engineering Manager", 2), stats.headcountByTitle());
+
+        when(employeeClient.createEmployee(any()))
+                .thenReturn(new EmployeeResponse(
+                        UUID.randomUUID(), "Joan Hires", 100_000, 24, "Architect", "joan@company.com"));
+        employeeService.createEmployee(new CreateEmployeeRequest());
+
+        stats = employeeService.getEmployeeStats();
+        assertEquals(3, stats.headcount());
+        assertEquals(100_000, stats.lowestSalary());
+        assertEquals(420_000, stats.totalSalary());
+        assertEquals(24, stats.youngestAge());
+        assertEquals(28, stats.averageAge());
+        assertEquals(Map.of("Engineering Manager", 2, "Architect", 1), stats.headcountByTitle());
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    public void testSalaryDistributions() {
+        when(employeeClient.getAllEmployees())
+                .thenReturn(List.of(
+                        new EmployeeResponse(UUID.randomUUID(), "Jane Doe", 160_000, 30, "Manager", "jane@company.com"),
+                        new EmployeeResponse(UUID.randomUUID(), "Joan Hires", 100_000, 24, "Architect", "joan@x.com"),
+                        new EmployeeResponse(UUID.randomUUID(), "John Smith", 60_000, 52, "Engineer", "john@x.com")));
+
+        assertEquals(
+                List.of(new SalaryPercentileResponse(50, 100_000), new SalaryPercentileResponse(90, 160_000)),
+                employeeService.getSalaryPercentiles(List.of(50.0, 90.0)));
+        assertEquals(
+                List.of(
+                        new SalaryHistogramBucketResponse(60_000, 110_001, 2),
+                        new SalaryHistogramBucketResponse(110_001, 160_002, 1)),
+                employeeService.getSalaryHistogram(2));
+        assertEquals(
+                List.of(
+                        new AgeBandResponse(20, 40, 2, 100_000, 130_000),
+                        new AgeBandResponse(40, 60, 1, 60_000, 60_000)),
+                employeeService.getAgeBands(20));
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    public void testCreateAndDeleteUpdateSalaryQueriesWithoutRefetching() {
+        assertEquals(160_000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(List.of("Jane Doe", "John Smith"), employeeService.getTopTenHighestEarningEmployeeNames());
+
+        final var newHire =
+                new EmployeeResponse(UUID.randomUUID(), "Joan Hires", 200_000, 25, "Architect", "joan@company.com");
+        when(employeeClient.createEmployee(any())).thenReturn(newHire);
+        employeeService.createEmployee(new CreateEmployeeRequest());
+
+        assertEquals(200_000, cacheManager.getCache(CacheNames.TOP_SALARY).get(SimpleKey.EMPTY, Integer.class));
+        assertEquals(200_000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(
+                List.of("Joan Hires", "Jane Doe", "John Smith"),
+                employeeService.getTopTenHighestEarningEmployeeNames());
+
+        when(employeeClient.deleteEmployeeById("Jane Doe")).thenReturn(Boolean.TRUE);
+        employeeService.deleteEmployeeById("Jane Doe");
+
+        assertEquals(List.of("Joan Hires", "John Smith"), employeeService.getTopTenHighestEarningEmployeeNames());
+        assertEquals(2, employeeService.getAllEmployees().size());
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    public void testDeleteOnlyRemovesTheEmployeeWithTheWholeName() {
+        final var smithers =
+                new EmployeeResponse(UUID.randomUUID(), "John Smithers", 200_000, 40, "Director", "js@company.com");
+        final List<EmployeeResponse> employees = new ArrayList<>(LIST_EMPLOYEE_RESPONSE);
+        employees.add(0, smithers);
+        when(employeeClient.getAllEmployees()).thenReturn(employees);
+        assertEquals(200_000, employeeService.getHighestSalaryOfEmployees());
+
+        when(employeeClient.deleteEmployeeById("john smith")).thenReturn(Boolean.TRUE);
+        assertEquals("john smith", employeeService.deleteEmployeeById("john smith"));
+
+        assertEquals(
+                List.of("John Smithers", "Jane Doe"),
+                employeeService.getAllEmployees().stream()
+                        .map(EmployeeResponse::getName)
+                        .toList());
+        assertEquals(200_000, employeeService.getHighestSalaryOfEmployees());
+        verify(employeeClient, times(1)).getAllEmployees();
+
+        // Only part of a name deletes nothing upstream
+        assertEquals("", employeeService.deleteEmployeeById("John"));
+        verify(employeeClient, never()).deleteEmployeeById("John");
+    }
+
+    @Test
+    public void testDeleteOfAmbiguousNameInvalidatesListInsteadOfPatching() {
+        final var twin =
+                new EmployeeResponse(UUID.randomUUID(), "Jane Doe", 90_000, 50, "Analyst", "jane2@company.com");
+        final List<EmployeeResponse> employees = new ArrayList<>(LIST_EMPLOYEE_RESPONSE);
+        employees.add(twin);
+        when(employeeClient.getAllEmployees()).thenReturn(employees);
+        assertEquals(160_000, employeeService.getHighestSalaryOfEmployees());
+
+        when(employeeClient.deleteEmployeeById("Jane Doe")).thenReturn(Boolean.TRUE);
+        employeeService.deleteEmployeeById("Jane Doe");
+
+        verifyCacheKeyMissing(CacheNames.EMPLOYEES, SimpleKey.EMPTY, cacheManager);
+        verifyCacheKeyMissing(CacheNames.TOP_SALARY, SimpleKey.EMPTY, cacheManager);
+        // Whichever one upstream deleted, the list is fetched again rather than guessed
+        when(employeeClient.getAllEmployees()).thenReturn(List.of(LIST_EMPLOYEE_RESPONSE.get(1), twin));
+        assertEquals(2, employeeService.getAllEmployees().size());
+        verify(employeeClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    public void testMixedWorkloadLoadsListOnce() {
+        employeeService.getAllEmployees();
+        final List<EmployeeResponse> hires = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final var hire = new EmployeeResponse(
+                    UUID.randomUUID(), "Hire " + i, 1_000 * i, 25, "Engineer", "hire" + i + "@company.com");
+            when(employeeClient.createEmployee(any())).thenReturn(hire);
+            employeeService.createEmployee(new CreateEmployeeRequest());
+            hires.add(hire);
+            if (i % 2 == 1) {
+                final var fired = hires.remove(0);
+                when(employeeClient.deleteEmployeeById(fired.getName())).thenReturn(Boolean.TRUE);
+                assertEquals(fired.getName(), employeeService.deleteEmployeeById(fired.getName()));
+            }
+            assertEquals(
+                    LIST_EMPLOYEE_RESPONSE.size() + hires.size(),
+                    employeeService.getAllEmployees().size());
+            assertEquals(Math.max(160_000, 1_000 * i), employeeService.getHighestSalaryOfEmployees());
+        }
+
+        // Every change was written through, so the list was only fetched once
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    public void testCreateEmployeesCachesCreatedEmployeesAndInvalidatesListOnce() {
+        employeeService.getAllEmployees();
+        verifyCacheKeyPresent(CacheNames.EMPLOYEES, SimpleKey.EMPTY, cacheManager);
+
+        when(employeeClient.createEmployees(anyList()))
+                .thenReturn(List.of(
+                        new BatchItemResponse<>(0, EMPLOYEE_RESPONSE, null),
+                        BatchItemResponse.error(1, "name must not be blank")));
+
+        final var results =
+                employeeService.createEmployees(List.of(new CreateEmployeeRequest(), new CreateEmployeeRequest()));
+
+        assertEquals(2, results.size());
+        verify(employeeClient, times(1)).createEmployees(anyList());
+        verifyCacheKeyPresent(CacheNames.EMPLOYEE_BY_ID, TEST_UUID_STR, cacheManager);
+        verifyCacheKeyMissing(CacheNames.EMPLOYEES, SimpleKey.EMPTY, cacheManager);
+    }
+
+    @Test
+    public void testDeleteEmployeesByNameReportsPerItemOutcome() {
+        when(employeeClient.deleteEmployeesByName(List.of("Jane Doe", "Nobody")))
+                .thenReturn(List.of(new BatchItemResponse<>(0, true, null), new BatchItemResponse<>(1, false, null)));
+
+        final var results = employeeService.deleteEmployeesByName(List.of("Jane Doe", "Nobody"));
+
+        assertEquals("Jane Doe", results.get(0).data());
+        assertEquals("Could not delete employee with id: Nobody", results.get(1).error());
+    }
+
     @Test
     public void testGetTopTenEarningEmployees() {
         // given
@@ -208,7 +537,22 @@ class EmployeeServiceTest {
         assertEquals("", result);
     }
 
-    private void verifyCacheKeyPresent(String cacheName, String cacheKey, CacheManager cacheManager) {
+    private static long usedHeapAfterGc(
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> searchCache, MemoryMXBean memory) {
+        searchCache.cleanUp();
+        ForkJoinPool.commonPool().awaitQuiescence(10, TimeUnit.SECONDS);
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    @SuppressWarnings("unchecked")
+    private long maximumOf(String cacheName) {
+        final var nativeCaffeineCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>)
+                ((CaffeineCache) cacheManager.getCache(cacheName)).getNativeCache();
+        return nativeCaffeineCache.policy().eviction().orElseThrow().getMaximum();
+    }
+
+    private void verifyCacheKeyPresent(String cacheName, Object cacheKey, CacheManager cacheManager) {
         Cache springCache = cacheManager.getCache(cacheName);
         if (springCache instanceof CaffeineCache caffeineCache) {
             com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCaffeineCache =
@@ -220,7 +564,7 @@ class EmployeeServiceTest {
         }
     }
 
-    private void verifyCacheKeyMissing(String cacheName, String cacheKey, CacheManager cacheManager) {
+    private void verifyCacheKeyMissing(String cacheName, Object cacheKey, CacheManager cacheManager) {
         Cache springCache = cacheManager.getCache(cacheName);
         if (springCache instanceof CaffeineCache caffeineCache) {
             com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCaffeineCache =
@@ -0,0 +1,259 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.CacheProperties;
+import com.reliaquest.api.constants.CacheNames;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+/**
+ * Unit tests for the refresh-ahead and write-through behaviour of {@link EmployeeSnapshotCache}
+ */
+class EmployeeSnapshotCacheTest {
+
+    private static final List<EmployeeResponse> FIRST = List.of(employee("Jane Doe"));
+    private static final List<EmployeeResponse> SECOND = List.of(employee("Jane Doe"), employee("John Smith"));
+    private static final EmployeeResponse NEW_HIRE = employee("Joan Hires");
+
+    private final AtomicLong nanos = new AtomicLong();
+    private EmployeeClient employeeClient;
+    private CaffeineCacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    @BeforeEach
+    void setup() {
+        employeeClient = mock(EmployeeClient.class);
+        cacheManager = new CaffeineCacheManager();
+        meterRegistry = new SimpleMeterRegistry();
+        final var spec = new CacheProperties.Spec();
+        spec.setRefreshAfterWrite(Duration.ofMinutes(1));
+        spec.setExpireAfterWrite(Duration.ofMinutes(5));
+        employeeSnapshotCache =
+                new EmployeeSnapshotCache(employeeClient, cacheManager, spec, meterRegistry, nanos::get);
+    }
+
+    @AfterEach
+    void teardown() {
+        employeeSnapshotCache.shutdown();
+    }
+
+    @Test
+    void testStaleListIsServedWhileReloadRuns() throws Exception {
+        final var release = new CountDownLatch(1);
+        when(employeeClient.getAllEmployees()).thenReturn(FIRST).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return SECOND;
+        });
+        assertEquals(FIRST, employeeSnapshotCache.get());
+
+        advance(Duration.ofSeconds(61));
+        // Neither reader waits for the reload, and only one reload is started
+        assertEquals(FIRST, employeeSnapshotCache.get());
+        assertEquals(FIRST, employeeSnapshotCache.get());
+        release.countDown();
+
+        awaitRefreshes("SUCCESS", 1);
+        assertEquals(SECOND, employeeSnapshotCache.get());
+        verify(employeeClient, times(2)).getAllEmployees();
+        assertEquals(
+                SECOND,
+                cacheManager.getCache(CacheNames.EMPLOYEES).get(SimpleKey.EMPTY).get());
+    }
+
+    @Test
+    void testFailedReloadKeepsCurrentList() throws Exception {
+        when(employeeClient.getAllEmployees())
+                .thenReturn(FIRST)
+                .thenThrow(new IllegalStateException("upstream down"))
+                .thenReturn(List.of());
+        employeeSnapshotCache.get();
+
+        advance(Duration.ofSeconds(61));
+        assertEquals(FIRST, employeeSnapshotCache.get());
+        awaitRefreshes("FAILURE", 1);
+
+        // The list stays stale, so the next reader tries again
+        assertEquals(FIRST, employeeSnapshotCache.get());
+        awaitRefreshes("FAILURE", 2);
+        assertEquals(FIRST, employeeSnapshotCache.get());
+    }
+
+    @Test
+    void testListPastHardTtlIsLoadedAgain() {
+        when(employeeClient.getAllEmployees()).thenReturn(FIRST).thenReturn(SECOND);
+        employeeSnapshotCache.get();
+
+        advance(Duration.ofMinutes(5));
+        assertEquals(SECOND, employeeSnapshotCache.get());
+        verify(employeeClient, times(2)).getAllEmployees();
+        assertEquals(
+                0,
+                meterRegistry.find(EmployeeSnapshotCache.REFRESH_TIMER).timers().stream()
+                        .mapToLong(timer -> timer.count())
+                        .sum());
+    }
+
+    @Test
+    void testListPutThroughCacheManagerCountsAsFresh() {
+        when(employeeClient.getAllEmployees()).thenReturn(FIRST);
+        employeeSnapshotCache.get();
+
+        advance(Duration.ofSeconds(61));
+        cacheManager.getCache(CacheNames.EMPLOYEES).put(SimpleKey.EMPTY, SECOND);
+        assertEquals(SECOND, employeeSnapshotCache.get());
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void testPatchedListIsStillReconciled() throws Exception {
+        when(employeeClient.getAllEmployees()).thenReturn(FIRST).thenReturn(SECOND);
+        employeeSnapshotCache.get();
+
+        // Patches do not make the list any younger than its full load
+        advance(Duration.ofSeconds(40));
+        final var patched = employeeSnapshotCache.applyCreated(NEW_HIRE);
+        advance(Duration.ofSeconds(21));
+        assertEquals(patched, employeeSnapshotCache.get());
+
+        awaitRefreshes("SUCCESS", 1);
+        assertEquals(SECOND, employeeSnapshotCache.get());
+    }
+
+    @Test
+    void testChangesPatchedDuringReloadAreAppliedAgain() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        when(employeeClient.getAllEmployees()).thenReturn(FIRST).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return SECOND;
+        });
+        employeeSnapshotCache.get();
+
+        advance(Duration.ofSeconds(61));
+        employeeSnapshotCache.get();
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        // The reload's response may predate this change, so it must survive the reload
+        employeeSnapshotCache.applyCreated(NEW_HIRE);
+        employeeSnapshotCache.applyDeleted(SECOND.get(1));
+        release.countDown();
+
+        awaitRefreshes("SUCCESS", 1);
+        assertEquals(List.of(SECOND.get(0), NEW_HIRE), employeeSnapshotCache.get());
+        assertEquals(List.of(NEW_HIRE), employeeSnapshotCache.searchByName("hires"));
+        verify(employeeClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void testPatchedListPastHardTtlIsLoadedAgain() {
+        when(employeeClient.getAllEmployees()).thenReturn(FIRST).thenReturn(SECOND);
+        employeeSnapshotCache.get();
+
+        advance(Duration.ofMinutes(3));
+        employeeSnapshotCache.applyCreated(NEW_HIRE);
+        advance(Duration.ofMinutes(3));
+        assertEquals(SECOND, employeeSnapshotCache.get());
+        verify(employeeClient, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void testQueryOfReplacedListReadsIndexesOfTheCurrentOne() {
+        when(employeeClient.getAllEmployees()).thenReturn(FIRST);
+        final var loaded = employeeSnapshotCache.get();
+        final var loadedIndexes = employeeSnapshotCache.indexedOf(loaded);
+        assertSame(loaded, loadedIndexes.employees());
+
+        final var patched = employeeSnapshotCache.applyCreated(NEW_HIRE);
+        // A reader still holding the loaded list neither rebuilds nor replaces the patched indexes
+        final var current = employeeSnapshotCache.indexedOf(loaded);
+        assertSame(patched, current.employees());
+        assertSame(current, employeeSnapshotCache.indexedOf(patched));
+        assertEquals(List.of(NEW_HIRE), current.names().search("hires"));
+        // The loaded list's indexes were copied, not patched, so they still describe it
+        assertEquals(List.of(), loadedIndexes.names().search("hires"));
+        assertEquals(1, loadedIndexes.salaries().size());
+    }
+
+    @Test
+    void testColumnsAreBuiltOncePerList() {
+        when(employeeClient.getAllEmployees()).thenReturn(FIRST);
+        final var loaded = employeeSnapshotCache.get();
+        final var loadedColumns = employeeSnapshotCache.columns();
+        assertSame(loadedColumns, employeeSnapshotCache.columns());
+        assertSame(loaded, loadedColumns.employees());
+
+        final var patched = employeeSnapshotCache.applyCreated(NEW_HIRE);
+        final var patchedColumns = employeeSnapshotCache.columns();
+        assertSame(patched, patchedColumns.employees());
+        // A reader of the loaded list is answered from the patched list's columns, not a rebuild of its own
+        assertSame(patchedColumns, employeeSnapshotCache.indexedOf(loaded).columns());
+        assertSame(patchedColumns, employeeSnapshotCache.columns());
+    }
+
+    @Test
+    void testAsyncLoadIsSharedWithBlockingCallers() throws Exception {
+        final var loaded = new CompletableFuture<List<EmployeeResponse>>();
+        final var async = employeeSnapshotCache.getAsync(() -> loaded);
+        final var blocking = CompletableFuture.supplyAsync(employeeSnapshotCache::get);
+
+        // The blocking caller waits on the pending load rather than starting its own
+        assertFalse(async.isDone());
+        assertThrows(TimeoutException.class, () -> blocking.get(100, TimeUnit.MILLISECONDS));
+        loaded.complete(FIRST);
+
+        assertEquals(FIRST, async.get(10, TimeUnit.SECONDS));
+        assertEquals(FIRST, blocking.get(10, TimeUnit.SECONDS));
+        assertEquals(
+                FIRST, employeeSnapshotCache.getAsync(CompletableFuture::new).get(10, TimeUnit.SECONDS));
+        verify(employeeClient, never()).getAllEmployees();
+    }
+
+    @Test
+    void testFailedAsyncLoadIsNotCached() {
+        when(employeeClient.getAllEmployees()).thenReturn(FIRST);
+
+        final var failed = employeeSnapshotCache.getAsync(
+                () -> CompletableFuture.failedFuture(new IllegalStateException("upstream down")));
+
+        final var exception = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals(FIRST, employeeSnapshotCache.get());
+    }
+
+    private void advance(final Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private void awaitRefreshes(final String outcome, final long count) throws InterruptedException {
+        final var timer = meterRegistry
+                .get(EmployeeSnapshotCache.REFRESH_TIMER)
+                .tag("outcome", outcome)
+                .timer();
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (timer.count() < count && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(count, timer.count());
+    }
+
+    private static EmployeeResponse employee(final String name) {
+        return new EmployeeResponse(UUID.randomUUID(), name, 100_000, 30, "Engineer", "employee@company.com");
+    }
+}
@@ -0,0 +1,184 @@
+package com.reliaquest.api.service;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.reliaquest.api.config.ClientConfig;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.model.request.CreateEmployeeRequest;
+import com.reliaquest.api.model.response.EmployeeResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Integration Test cases for the {@link ReactiveEmployeeClient}
+ */
+@WireMockTest(httpPort = 8080)
+class ReactiveEmployeeClientTest {
+
+    private static final String VALID_REQ =
+            """
+            {
+              "data": [
+                {
+                  "id": "0c38f567-7b4c-4e42-b1a2-c448d00a4724",
+                  "employee_name": "John Doe",
+                  "employee_salary": 90000,
+                  "employee_age": 30,
+                  "employee_title": "Engineer",
+                  "employee_email": "john.doe@example.com"
+                }
+              ]
+            }
+            """;
+    private static final String VALID_DELETE_REQ =
+            """
+            {
+              "data": true,
+              "status": "Success"
+            }
+            """;
+
+    private ReactiveEmployeeClient reactiveEmployeeClient;
+
+    @BeforeEach
+    void setup() {
+        reactiveEmployeeClient = client(new ClientConfig());
+    }
+
+    @Test
+    void testGetAllEmployees() {
+        stubFor(get(urlEqualTo("/employees")).willReturn(okJson(VALID_REQ)));
+
+        List<EmployeeResponse> employees =
+                reactiveEmployeeClient.getAllEmployees().block();
+        assertEquals(1, employees.size());
+        assertEquals("John Doe", employees.get(0).getName());
+    }
+
+    @Test
+    void testGetAllEmployeesIsEmptyWhenRequestFails() {
+        stubFor(get(urlEqualTo("/employees")).willReturn(aResponse().withStatus(500)));
+
+        assertEquals(List.of(), reactiveEmployeeClient.getAllEmployees().block());
+    }
+
+    @Test
+    void testNothingIsSentUntilSubscribed() {
+        stubFor(get(urlEqualTo("/employees")).willReturn(okJson(VALID_REQ)));
+
+        final var employees = reactiveEmployeeClient.getAllEmployees();
+        verify(0, getRequestedFor(urlEqualTo("/employees")));
+
+        employees.block();
+        employees.block();
+        verify(2, getRequestedFor(urlEqualTo("/employees")));
+    }
+
+    /**
+     * Mirrors the mock server's token bucket limiter, which rejects with 429 and a whole-second Retry-After.
+     */
+    @Test
+    void testGetAllEmployeesRetriesAfterRateLimit() {
+        stubFor(get(urlEqualTo("/employees"))
+                .inScenario("rate limited")
+                .whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "1"))
+                .willSetStateTo("recovered"));
+        stubFor(get(urlEqualTo("/employees"))
+                .inScenario("rate limited")
+                .whenScenarioStateIs("recovered")
+                .willReturn(okJson(VALID_REQ)));
+
+        final var started = System.nanoTime();
+        List<EmployeeResponse> employees =
+                reactiveEmployeeClient.getAllEmployees().block();
+
+        assertEquals(1, employees.size());
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(1)) >= 0);
+        verify(2, getRequestedFor(urlEqualTo("/employees")));
+    }
+
+    @Test
+    void testCircuitOpensAndFailsFastWhileUpstreamSaturated() {
+        stubFor(get(urlMatching("/employees/.*")).willReturn(aResponse().withStatus(503)));
+        ClientConfig config = new ClientConfig();
+        config.getRetry().setMaxAttempts(2);
+        config.getRetry().setInitialBackoff(Duration.ofMillis(10));
+        config.getCircuitBreaker().setFailureThreshold(2);
+        config.getCircuitBreaker().setOpenDuration(Duration.ofMinutes(1));
+        ReactiveEmployeeClient guardedClient = client(config);
+        String id = UUID.randomUUID().toString();
+
+        assertThrows(
+                UpstreamThrottledException.class,
+                () -> guardedClient.getEmployeeById(id).block());
+        UpstreamThrottledException failedFast = assertThrows(
+                UpstreamThrottledException.class,
+                () -> guardedClient.getEmployeeById(id).block());
+
+        assertTrue(failedFast.getRetryAfter().compareTo(Duration.ofSeconds(50)) > 0);
+        verify(2, getRequestedFor(urlMatching("/employees/.*")));
+    }
+
+    @Test
+    void testGetEmployeeById() {
+        stubFor(get(urlEqualTo("/employees/0c38f567-7b4c-4e42-b1a2-c448d00a4724"))
+                .willReturn(okJson(VALID_REQ)));
+
+        EmployeeResponse employee = reactiveEmployeeClient
+                .getEmployeeById("0c38f567-7b4c-4e42-b1a2-c448d00a4724")
+                .block();
+        assertEquals("John Doe", employee.getName());
+    }
+
+    @Test
+    void testGetEmployeeByIdNotFoundIsNotThrottled() {
+        stubFor(get(urlMatching("/employees/.*")).willReturn(aResponse().withStatus(404)));
+
+        assertSame(
+                EmployeeResponse.BLANK,
+                reactiveEmployeeClient
+                        .getEmployeeById(UUID.randomUUID().toString())
+                        .block());
+        verify(1, getRequestedFor(urlMatching("/employees/.*")));
+    }
+
+    @Test
+    void testCreateEmployee() {
+        stubFor(post(urlEqualTo("/employees"))
+                .withRequestBody(matchingJsonPath("$.name", equalTo("John Doe")))
+                .willReturn(okJson(VALID_REQ)));
+
+        CreateEmployeeRequest request = new CreateEmployeeRequest();
+        request.setAge(20);
+        request.setTitle("Engineer");
+        request.setName("John Doe");
+        request.setSalary(90_000);
+        EmployeeResponse employee =
+                reactiveEmployeeClient.createEmployee(request).block();
+        assertEquals("John Doe", employee.getName());
+    }
+
+    @Test
+    void testDeleteEmployeeById() {
+        stubFor(delete(urlEqualTo("/employees"))
+                .withRequestBody(matchingJsonPath("$.name", equalTo("John Doe")))
+                .willReturn(okJson(VALID_DELETE_REQ)));
+
+        assertTrue(reactiveEmployeeClient.deleteEmployeeById("John Doe").block());
+    }
+
+    private static ReactiveEmployeeClient client(final ClientConfig config) {
+        final var client = new ReactiveEmployeeClient(
+                WebClient.builder().baseUrl("http://localhost:8080/employees").build(), config);
+        client.setup();
+        return client;
+    }
+}
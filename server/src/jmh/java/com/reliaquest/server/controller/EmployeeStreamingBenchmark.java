@@ -0,0 +1,175 @@
+package com.reliaquest.server.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.ChangeFeedProperties;
+import com.reliaquest.server.config.MockEmployeesProperties;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeFeed;
+import com.reliaquest.server.service.MockEmployeeGenerator;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeSnapshot;
+import com.reliaquest.server.service.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Compares the JSON document written by GET /api/v1/employee with the application/x-ndjson stream, both gzip
+ * compressed the way Tomcat does when server.compression is enabled. Run with the gc profiler (the default in
+ * benchmark-conventions) to compare bytes allocated per request.
+ *
+ *   ./gradlew server:jmh -Pjmh.includes=EmployeeStreamingBenchmark
+ *
+ * The *TimeToFirstByte benchmarks stop as soon as the first compressed payload byte would reach the client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmployeeStreamingBenchmark {
+
+    private static final int GZIP_HEADER_LENGTH = 10;
+
+    @Param({"100000", "250000"})
+    private int employees;
+
+    private ObjectMapper objectMapper;
+    private MockEmployeeService mockEmployeeService;
+    private MockEmployeeController controller;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var properties = new MockEmployeesProperties();
+        properties.setMax(employees);
+        properties.setSeed(42L);
+        properties.setParallelism(Runtime.getRuntime().availableProcessors());
+        final var store = new MockEmployeeStore(employees);
+        new MockEmployeeGenerator(Locale.US, properties).populate(store);
+
+        objectMapper = new ObjectMapper();
+        final var employeeChangeFeed = new EmployeeChangeFeed(new ChangeFeedProperties());
+        mockEmployeeService = new MockEmployeeService(
+                new Faker(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                store,
+                employeeChangeFeed,
+                new MockEmployeeSnapshot(properties));
+        controller = new MockEmployeeController(mockEmployeeService, employeeChangeFeed, objectMapper);
+    }
+
+    @Benchmark
+    public long document() throws IOException {
+        final var sink = new CountingOutputStream();
+        writeDocument(new GZIPOutputStream(sink, true));
+        return sink.count;
+    }
+
+    @Benchmark
+    public long ndjson() throws IOException {
+        final var sink = new CountingOutputStream();
+        writeNdjson(new GZIPOutputStream(sink, true));
+        return sink.count;
+    }
+
+    @Benchmark
+    public long documentTimeToFirstByte() throws IOException {
+        final var sink = new FirstByteOutputStream();
+        try {
+            writeDocument(new GZIPOutputStream(sink, true));
+        } catch (IOException | FirstByteWritten ex) {
+            // Jackson may wrap the signal; anything thrown before the first byte is a real failure
+            if (!sink.reached) {
+                throw ex;
+            }
+        }
+        return sink.count;
+    }
+
+    @Benchmark
+    public long ndjsonTimeToFirstByte() throws IOException {
+        final var sink = new FirstByteOutputStream();
+        try {
+            writeNdjson(new GZIPOutputStream(sink, true));
+        } catch (IOException | FirstByteWritten ex) {
+            // Jackson may wrap the signal; anything thrown before the first byte is a real failure
+            if (!sink.reached) {
+                throw ex;
+            }
+        }
+        return sink.count;
+    }
+
+    private void writeDocument(OutputStream outputStream) throws IOException {
+        try (outputStream) {
+            // Same body as GET /api/v1/employee without an If-None-Match match
+            objectMapper.writeValue(outputStream, Response.handledWith(mockEmployeeService.getMockEmployees()));
+        }
+    }
+
+    private void writeNdjson(OutputStream outputStream) throws IOException {
+        try (outputStream) {
+            controller.streamEmployees().getBody().writeTo(outputStream);
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    private static class FirstByteOutputStream extends CountingOutputStream {
+
+        private boolean reached;
+
+        @Override
+        public void write(int b) {
+            super.write(b);
+            checkFirstByte();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            super.write(b, off, len);
+            checkFirstByte();
+        }
+
+        private void checkFirstByte() {
+            // Throw once; writes made while the writers close themselves are ignored
+            if (!reached && count > GZIP_HEADER_LENGTH) {
+                reached = true;
+                throw FirstByteWritten.INSTANCE;
+            }
+        }
+    }
+
+    private static class FirstByteWritten extends RuntimeException {
+
+        static final FirstByteWritten INSTANCE = new FirstByteWritten();
+
+        private FirstByteWritten() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.MockEmployeesProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/*
+ * Time to fill an empty store at startup: Faker generation versus loading a snapshot of the same dataset. Each
+ * invocation is a cold start, so this runs in single-shot mode.
+ *
+ *   ./gradlew server:jmh -Pjmh.includes=MockEmployeeStartupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MockEmployeeStartupBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int employees;
+
+    private MockEmployeesProperties properties;
+    private Path snapshotFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        snapshotFile = Files.createTempFile("mock-employees", ".snapshot");
+        properties = new MockEmployeesProperties();
+        properties.setMax(employees);
+        properties.setSeed(42L);
+        properties.setParallelism(Runtime.getRuntime().availableProcessors());
+        properties.setSnapshot(snapshotFile);
+
+        final var store = new MockEmployeeStore(employees);
+        new MockEmployeeGenerator(Locale.US, properties).populate(store);
+        new MockEmployeeSnapshot(properties).write(store);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Benchmark
+    public int generate() {
+        final var store = new MockEmployeeStore(employees);
+        new MockEmployeeGenerator(Locale.US, properties).populate(store);
+        return store.size();
+    }
+
+    @Benchmark
+    public int loadSnapshot() throws IOException {
+        final var store = new MockEmployeeStore(employees);
+        new MockEmployeeSnapshot(properties).load(store);
+        return store.size();
+    }
+}
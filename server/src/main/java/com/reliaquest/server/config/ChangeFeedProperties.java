@@ -0,0 +1,31 @@
+package com.reliaquest.server.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/*
+ * Controls the employee change feed served at GET /api/v1/employee/changes.
+ *
+ * mock.changes.capacity     - number of recent changes kept for subscribers resuming with Last-Event-ID; a
+ *                             subscriber further behind than this is told to reset instead
+ * mock.changes.heartbeat    - idle interval after which a comment is sent to keep connections open
+ * mock.changes.send-timeout - how long a send to one subscriber may block before that subscriber is dropped
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "mock.changes")
+public class ChangeFeedProperties {
+
+    @Min(1)
+    private int capacity = 1024;
+
+    @NotNull private Duration heartbeat = Duration.ofSeconds(15);
+
+    @NotNull private Duration sendTimeout = Duration.ofSeconds(5);
+}
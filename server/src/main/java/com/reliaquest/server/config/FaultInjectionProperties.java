@@ -0,0 +1,32 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.FaultRule;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/*
+ * Startup latency and fault injection profile; it can be changed at runtime through /admin/faults.
+ *
+ * mock.faults.enabled - turns injection on; nothing is injected while false
+ * mock.faults.seed    - fixed seed so the n-th request matching a rule always gets the same latency and outcome;
+ *                       a random seed is chosen (and logged) when unset
+ * mock.faults.rules   - per-endpoint rules, the first one matching a request applies (see FaultRule)
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "mock.faults")
+public class FaultInjectionProperties {
+
+    private boolean enabled = false;
+
+    private Long seed;
+
+    @NotNull private List<@Valid FaultRule> rules = new ArrayList<>();
+}
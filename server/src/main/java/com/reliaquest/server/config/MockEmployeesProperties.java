@@ -0,0 +1,40 @@
+package com.reliaquest.server.config;
+
+import jakarta.validation.constraints.Min;
+import java.nio.file.Path;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/*
+ * Controls how the mock dataset is generated on startup.
+ *
+ * mock.employees.max         - number of employees to generate
+ * mock.employees.seed        - fixed seed for reproducible datasets; a random seed is chosen (and logged) when unset
+ * mock.employees.parallelism - number of generator threads, each with its own Faker
+ * mock.employees.lazy        - when true the server starts immediately while the dataset fills in the background
+ * mock.employees.snapshot    - binary snapshot file; when it exists the dataset is loaded from it instead of generated
+ *                              (max and seed are ignored), otherwise it is written once generation completes
+ * mock.employees.snapshot-on-shutdown - rewrite the snapshot on shutdown so creates and deletes survive a restart
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "mock.employees")
+public class MockEmployeesProperties {
+
+    @Min(0)
+    private int max = 20;
+
+    private Long seed;
+
+    @Min(1)
+    private int parallelism = 1;
+
+    private boolean lazy = false;
+
+    private Path snapshot;
+
+    private boolean snapshotOnShutdown = true;
+}
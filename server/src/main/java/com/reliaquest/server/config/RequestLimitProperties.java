@@ -0,0 +1,44 @@
+package com.reliaquest.server.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/*
+ * Startup limits for the request limiter; they can be changed at runtime through /admin/rate-limit.
+ *
+ * mock.rate-limit.enabled - turns limiting off entirely when false
+ * mock.rate-limit.rate    - sustained requests per second each client may make
+ * mock.rate-limit.burst   - requests a client may make back-to-back before being limited
+ * mock.rate-limit.key     - GLOBAL (one bucket for everyone), HEADER or REMOTE_ADDRESS
+ * mock.rate-limit.header  - request header identifying the client when key is HEADER
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "mock.rate-limit")
+public class RequestLimitProperties {
+
+    private boolean enabled = true;
+
+    @Positive private double rate = 0.125;
+
+    @Min(1)
+    private int burst = 8;
+
+    @NotNull private KeyStrategy key = KeyStrategy.GLOBAL;
+
+    @NotBlank
+    private String header = "X-Client-Id";
+
+    public enum KeyStrategy {
+        GLOBAL,
+        HEADER,
+        REMOTE_ADDRESS
+    }
+}
@@ -1,19 +1,19 @@
 package com.reliaquest.server.config;
 
-import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.service.MockEmployeeGenerator;
+import com.reliaquest.server.service.MockEmployeeSnapshot;
+import com.reliaquest.server.service.MockEmployeeStore;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import com.reliaquest.server.web.FaultInjector;
+import com.reliaquest.server.web.RequestLimiter;
+import com.reliaquest.server.web.TokenBucketRequestLimitInterceptor;
+import java.io.IOException;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -21,39 +21,86 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final RequestLimiter requestLimiter;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
+    @Bean
+    public MockEmployeeSnapshot mockEmployeeSnapshot(MockEmployeesProperties properties) {
+        return new MockEmployeeSnapshot(properties);
+    }
+
+    /*
+     * This store is modifiable by design for CRUD operations.
+     */
+    @Bean
+    public MockEmployeeStore mockEmployees(MockEmployeesProperties properties, MockEmployeeSnapshot snapshot) {
+        final var store = new MockEmployeeStore(snapshot.expectedSize(properties.getMax()));
+        if (!properties.isLazy()) {
+            populate(store, properties, snapshot);
+            return store;
+        }
+
+        // Serve traffic straight away; requests observe a partially filled dataset until population completes
+        final var loader = new Thread(
+                () -> {
+                    try {
+                        populate(store, properties, snapshot);
+                    } catch (RuntimeException ex) {
+                        log.error("Failed to generate mock employees.", ex);
+                    }
+                },
+                "mock-employee-loader");
+        loader.setDaemon(true);
+        loader.start();
+        return store;
+    }
+
+    private static void populate(
+            MockEmployeeStore store, MockEmployeesProperties properties, MockEmployeeSnapshot snapshot) {
+        if (snapshot.exists()) {
+            try {
+                snapshot.load(store);
+                store.markPopulated();
+                return;
+            } catch (IOException ex) {
+                // Nothing was added unless decoding failed midway; start over from an empty store
+                log.warn("Failed to load snapshot [{}], generating instead: {}", snapshot.getPath(), ex.getMessage());
+                store.clear();
+            }
+        }
+
+        new MockEmployeeGenerator(Locale.getDefault(), properties).populate(store);
+        store.markPopulated();
+        if (snapshot.isEnabled()) {
+            try {
+                snapshot.write(store);
+            } catch (IOException ex) {
+                log.warn("Failed to write snapshot [{}]: {}", snapshot.getPath(), ex.getMessage());
+            }
+        }
+    }
+
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Runs ahead of the request limiter, so throttled requests are delayed like any other.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public FilterRegistrationBean<FaultInjectionFilter> faultInjectionFilter(
+            FaultInjector faultInjector, ObjectMapper objectMapper) {
+        return new FilterRegistrationBean<>(new FaultInjectionFilter(faultInjector, objectMapper));
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(new TokenBucketRequestLimitInterceptor(requestLimiter))
+                .excludePathPatterns("/admin/**");
     }
 }
@@ -0,0 +1,31 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.FaultInjector;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultAdminController {
+
+    private final FaultInjector faultInjector;
+
+    @GetMapping()
+    public Response<FaultProfile> getProfile() {
+        return Response.handledWith(faultInjector.getProfile());
+    }
+
+    @PutMapping()
+    public Response<FaultProfile> updateProfile(@Valid @RequestBody FaultProfile profile) {
+        faultInjector.update(profile);
+        return Response.handledWith(faultInjector.getProfile());
+    }
+}
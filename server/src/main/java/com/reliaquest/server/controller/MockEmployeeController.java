@@ -1,41 +1,134 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeFeed;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    private static final String LINE_SEPARATOR = "\n";
+    private static final int MAX_PAGE_SIZE = 10_000;
+    private static final int MAX_BATCH_SIZE = 1_000;
+
     private final MockEmployeeService mockEmployeeService;
+    private final EmployeeChangeFeed employeeChangeFeed;
+    private final ObjectMapper objectMapper;
 
+    /*
+     * The version tag is read before the data, so a 304 is only ever sent for a dataset the client already has.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<Collection<MockEmployee>>> getEmployees(WebRequest request) {
+        final var etag = mockEmployeeService.versionTag(mockEmployeeService.getVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(Response.handledWith(mockEmployeeService.getMockEmployees()));
+    }
+
+    /*
+     * Offset pagination over a point-in-time ordering; the total dataset size is returned in X-Total-Count so
+     * clients can request the remaining pages concurrently.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployeePage(
+            @RequestParam(name = "offset", defaultValue = "0") int offset,
+            @RequestParam("limit") int limit,
+            WebRequest request) {
+        if (offset < 0 || limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(Response.error("offset must be >= 0 and limit between 1 and %d".formatted(MAX_PAGE_SIZE)));
+        }
+        final var page = mockEmployeeService.getMockEmployeePage(offset, limit);
+        final var etag = mockEmployeeService.versionTag(page.version());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .header(TOTAL_COUNT_HEADER, String.valueOf(page.total()))
+                .body(Response.handledWith(page.employees()));
+    }
+
+    /*
+     * Writes one employee per line straight to the response stream, so memory use does not grow with the dataset.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        final var writer = objectMapper
+                .writerFor(MockEmployee.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator(LINE_SEPARATOR);
+        final StreamingResponseBody body = outputStream -> {
+            try (final var generator = writer.createGenerator(outputStream);
+                    final var sequence = writer.writeValues(generator)) {
+                var empty = true;
+                for (final var mockEmployee : mockEmployeeService.getMockEmployees()) {
+                    sequence.write(mockEmployee);
+                    if (empty) {
+                        // Push the first record out immediately instead of waiting for the buffer to fill
+                        sequence.flush();
+                        empty = false;
+                    }
+                }
+                if (!empty) {
+                    generator.writeRaw(LINE_SEPARATOR);
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /*
+     * Server-sent events for every create and delete. Reconnect with the Last-Event-ID header to resume; a "reset"
+     * event means the missed changes are gone and the full list has to be fetched again.
+     */
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(name = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        return employeeChangeFeed.subscribe(lastEventId);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
+    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid, WebRequest request) {
+        final var etag = mockEmployeeService.versionTag(mockEmployeeService.getVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         return mockEmployeeService
                 .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .map(employee -> ResponseEntity.ok().eTag(etag).body(Response.handledWith(employee)))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
@@ -48,4 +141,27 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult<MockEmployee>>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        if (inputs.size() > MAX_BATCH_SIZE) {
+            return batchTooLarge();
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.createAll(inputs)));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult<Boolean>>>> deleteEmployees(
+            @RequestBody List<DeleteMockEmployeeInput> inputs) {
+        if (inputs.size() > MAX_BATCH_SIZE) {
+            return batchTooLarge();
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.deleteAll(inputs)));
+    }
+
+    private static <T> ResponseEntity<Response<T>> batchTooLarge() {
+        return ResponseEntity.badRequest()
+                .body(Response.error("batch size must not exceed %d".formatted(MAX_BATCH_SIZE)));
+    }
 }
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.util.DisconnectedClientHelper;
 
 @Slf4j
 @ControllerAdvice
@@ -12,6 +13,11 @@ public class MockEmployeeControllerAdvice {
 
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
+        if (DisconnectedClientHelper.isClientDisconnectedException(ex)) {
+            // Nothing can be written back; typically a change feed subscriber going away
+            log.debug("Client disconnected: {}", ex.getMessage());
+            return null;
+        }
         log.error("Error handling web request.", ex);
         return ResponseEntity.internalServerError().body(Response.error(ex.getMessage()));
     }
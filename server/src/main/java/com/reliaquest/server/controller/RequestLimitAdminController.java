@@ -0,0 +1,31 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.RequestLimits;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.RequestLimiter;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/rate-limit")
+@RequiredArgsConstructor
+public class RequestLimitAdminController {
+
+    private final RequestLimiter requestLimiter;
+
+    @GetMapping()
+    public Response<RequestLimits> getLimits() {
+        return Response.handledWith(requestLimiter.getLimits());
+    }
+
+    @PutMapping()
+    public Response<RequestLimits> updateLimits(@Valid @RequestBody RequestLimits limits) {
+        requestLimiter.update(limits);
+        return Response.handledWith(requestLimiter.getLimits());
+    }
+}
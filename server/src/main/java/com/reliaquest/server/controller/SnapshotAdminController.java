@@ -0,0 +1,29 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/snapshot")
+@RequiredArgsConstructor
+public class SnapshotAdminController {
+
+    private final MockEmployeeService mockEmployeeService;
+
+    @PostMapping()
+    public ResponseEntity<Response<Integer>> writeSnapshot() throws IOException {
+        final var written = mockEmployeeService.writeSnapshot();
+        if (written.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Response.error("Snapshots are disabled or the dataset is still loading."));
+        }
+        return ResponseEntity.ok(Response.handledWith(written.getAsInt()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult<T>(int index, T data, String error) {
+
+    public static <T> BatchItemResult<T> handledWith(int index, T data) {
+        return new BatchItemResult<>(index, data, null);
+    }
+
+    public static <T> BatchItemResult<T> error(int index, String error) {
+        return new BatchItemResult<>(index, null, error);
+    }
+}
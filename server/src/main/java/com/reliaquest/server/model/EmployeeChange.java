@@ -0,0 +1,26 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Locale;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeChange(long sequence, Type type, MockEmployee employee) {
+
+    public static EmployeeChange reset(long sequence) {
+        return new EmployeeChange(sequence, Type.RESET, null);
+    }
+
+    public String eventName() {
+        return type.name().toLowerCase(Locale.ROOT);
+    }
+
+    /*
+     * RESET tells a subscriber that changes up to the sequence can no longer be replayed, so anything it derived from
+     * earlier events must be rebuilt.
+     */
+    public enum Type {
+        CREATED,
+        DELETED,
+        RESET
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public record FaultProfile(boolean enabled, Long seed, @NotNull List<@Valid FaultRule> rules) {
+
+    public static FaultProfile from(FaultInjectionProperties properties) {
+        return new FaultProfile(properties.isEnabled(), properties.getSeed(), List.copyOf(properties.getRules()));
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+
+/*
+ * Misbehaviour applied to requests matching method (any when unset) and an Ant-style path pattern. Every part is
+ * optional: a rule may only add latency, only fail requests or only stream its response slowly.
+ */
+public record FaultRule(
+        String method,
+        @NotBlank String path,
+        @Valid Latency latency,
+        @DecimalMin("0") @DecimalMax("1") double errorRate,
+        @Min(400) @Max(599) Integer errorStatus,
+        @Valid SlowBody slowBody) {
+
+    public FaultRule {
+        if (errorStatus == null) {
+            errorStatus = 500;
+        }
+    }
+
+    /*
+     * FIXED waits delay, UNIFORM a value between min and max, LOG_NORMAL median * e^(sigma * N(0,1)) capped at max
+     * when set. With spike-probability p (0.01 for a p99 spike) the spike duration is added on top.
+     */
+    public record Latency(
+            @NotNull Distribution distribution,
+            Duration delay,
+            Duration min,
+            Duration max,
+            Duration median,
+            @DecimalMin("0") double sigma,
+            @DecimalMin("0") @DecimalMax("1") double spikeProbability,
+            Duration spike) {
+
+        public Latency {
+            delay = orZero(delay);
+            min = orZero(min);
+            median = orZero(median);
+            spike = orZero(spike);
+        }
+
+        private static Duration orZero(Duration duration) {
+            return duration == null ? Duration.ZERO : duration;
+        }
+    }
+
+    /*
+     * Writes the response body chunk-size bytes at a time, flushing and pausing chunk-delay after every chunk.
+     */
+    public record SlowBody(@Positive int chunkSize, @NotNull Duration chunkDelay) {}
+
+    public enum Distribution {
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL
+    }
+}
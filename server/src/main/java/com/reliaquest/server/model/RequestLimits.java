@@ -0,0 +1,24 @@
+package com.reliaquest.server.model;
+
+import com.reliaquest.server.config.RequestLimitProperties;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record RequestLimits(
+        boolean enabled,
+        @Positive double rate,
+        @Min(1) int burst,
+        @NotNull RequestLimitProperties.KeyStrategy key,
+        @NotBlank String header) {
+
+    public static RequestLimits from(RequestLimitProperties properties) {
+        return new RequestLimits(
+                properties.isEnabled(),
+                properties.getRate(),
+                properties.getBurst(),
+                properties.getKey(),
+                properties.getHeader());
+    }
+}
@@ -0,0 +1,247 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.ChangeFeedProperties;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.random.RandomGenerator;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+ * Sequence-numbered feed of creates and deletes, served as server-sent events. Recent changes are kept in a ring so a
+ * reconnecting subscriber can resume from its Last-Event-ID; one that has fallen further behind, or last saw a
+ * previous server process, is sent a reset event instead.
+ *
+ * A dispatcher thread hands each subscriber's delivery to a sender thread of its own, one delivery in flight per
+ * subscriber, so a client that stops reading only stalls itself. Deliveries read from the ring rather than queueing
+ * changes, so memory stays bounded by the ring however slow a subscriber is. A subscriber whose send has not returned
+ * within the send timeout is dropped, and is sent a reset when it reconnects having fallen out of the ring.
+ */
+@Slf4j
+@Component
+public class EmployeeChangeFeed {
+
+    private static final long RESET = -1;
+    private static final char ID_SEPARATOR = '-';
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final String epoch = Long.toHexString(RandomGenerator.getDefault().nextLong());
+    private final AtomicReferenceArray<EmployeeChange> changes;
+    private final Duration heartbeat;
+    private final Duration sendTimeout;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition signalled = lock.newCondition();
+
+    /* Guarded by lock */
+    private long sequence;
+    private boolean pending;
+
+    private Thread dispatcher;
+    private ExecutorService senders;
+
+    public EmployeeChangeFeed(@NonNull ChangeFeedProperties properties) {
+        this.changes = new AtomicReferenceArray<>(properties.getCapacity());
+        this.heartbeat = properties.getHeartbeat();
+        this.sendTimeout = properties.getSendTimeout();
+    }
+
+    @PostConstruct
+    public void start() {
+        senders = Executors.newCachedThreadPool(runnable -> {
+            final var sender = new Thread(runnable, "mock-employee-change-feed-sender");
+            sender.setDaemon(true);
+            return sender;
+        });
+        dispatcher = new Thread(this::dispatch, "mock-employee-change-feed");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        dispatcher.interrupt();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    public void publish(@NonNull EmployeeChange.Type type, @NonNull MockEmployee employee) {
+        lock.lock();
+        try {
+            sequence++;
+            changes.set(slot(sequence), new EmployeeChange(sequence, type, employee));
+            signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        final var emitter = new SseEmitter(0L);
+        final var subscriber = new Subscriber(emitter, resumePoint(lastEventId));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ignored -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        lock.lock();
+        try {
+            signal();
+        } finally {
+            lock.unlock();
+        }
+        return emitter;
+    }
+
+    private long resumePoint(String lastEventId) {
+        if (lastEventId == null) {
+            return RESET;
+        }
+        final var separator = lastEventId.lastIndexOf(ID_SEPARATOR);
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return RESET;
+        }
+        final long resumeFrom;
+        try {
+            resumeFrom = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException exception) {
+            return RESET;
+        }
+        lock.lock();
+        try {
+            return resumeFrom >= 0 && resumeFrom <= sequence ? resumeFrom : RESET;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            final long latest;
+            final boolean idle;
+            lock.lock();
+            try {
+                if (!pending) {
+                    signalled.awaitNanos(heartbeat.toNanos());
+                }
+                idle = !pending;
+                pending = false;
+                latest = sequence;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            for (final var subscriber : subscribers) {
+                if (subscriber.delivering.compareAndSet(false, true)) {
+                    subscriber.deliveringSince = System.nanoTime();
+                    senders.execute(() -> deliverAndRelease(subscriber, latest, idle));
+                } else if (System.nanoTime() - subscriber.deliveringSince > sendTimeout.toNanos()) {
+                    log.debug("Dropping change feed subscriber stalled for over {}", sendTimeout);
+                    subscriber.stalled = true;
+                    subscribers.remove(subscriber);
+                }
+            }
+        }
+    }
+
+    private void deliverAndRelease(Subscriber subscriber, long latest, boolean idle) {
+        try {
+            deliver(subscriber, latest, idle);
+        } finally {
+            subscriber.delivering.set(false);
+        }
+        if (subscriber.stalled) {
+            // Dropped while its send was blocked; close it now that the send has returned
+            try {
+                subscriber.emitter.complete();
+            } catch (RuntimeException exception) {
+                log.debug("Closing stalled change feed subscriber: {}", exception.getMessage());
+            }
+            return;
+        }
+        lock.lock();
+        try {
+            // Changes published while this delivery ran were skipped for this subscriber
+            if (subscriber.cursor < sequence && subscribers.contains(subscriber)) {
+                signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void deliver(Subscriber subscriber, long latest, boolean idle) {
+        try {
+            if (subscriber.cursor == RESET || latest - subscriber.cursor > changes.length()) {
+                send(subscriber, EmployeeChange.reset(latest));
+            }
+            while (subscriber.cursor < latest) {
+                final var next = subscriber.cursor + 1;
+                final var change = changes.get(slot(next));
+                if (change == null || change.sequence() != next) {
+                    // Overwritten while this subscriber was catching up
+                    send(subscriber, EmployeeChange.reset(latest));
+                    break;
+                }
+                send(subscriber, change);
+            }
+            if (idle) {
+                subscriber.emitter.send(SseEmitter.event().comment(HEARTBEAT));
+            }
+        } catch (IOException | RuntimeException exception) {
+            // The emitter has already failed the request; completing it again would throw from the container
+            log.debug("Dropping change feed subscriber: {}", exception.getMessage());
+            subscribers.remove(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, EmployeeChange change) throws IOException {
+        subscriber.emitter.send(SseEmitter.event()
+                .id(epoch + ID_SEPARATOR + change.sequence())
+                .name(change.eventName())
+                .data(change, MediaType.APPLICATION_JSON));
+        subscriber.cursor = change.sequence();
+    }
+
+    private void signal() {
+        pending = true;
+        signalled.signal();
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % changes.length());
+    }
+
+    /*
+     * The cursor is only written by the one delivery in flight, which the delivering flag hands from sender to sender.
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean delivering = new AtomicBoolean();
+        private volatile long cursor;
+        private volatile long deliveringSince;
+        private volatile boolean stalled;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
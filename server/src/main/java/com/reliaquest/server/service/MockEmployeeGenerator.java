@@ -0,0 +1,115 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.MockEmployeesProperties;
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+
+/*
+ * Fills a MockEmployeeStore with fake employees. The dataset is split into fixed-size chunks and every chunk reseeds
+ * its thread's Faker from (seed, chunk index), so the same seed produces the same employees regardless of
+ * parallelism or thread scheduling.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MockEmployeeGenerator {
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final long CHUNK_SEED_STRIDE = 0x9E3779B97F4A7C15L;
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final Locale locale;
+    private final MockEmployeesProperties properties;
+
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(this::newWorker);
+
+    public void populate(@NonNull MockEmployeeStore store) {
+        final var max = properties.getMax();
+        final var parallelism = properties.getParallelism();
+        final var seed = properties.getSeed() != null
+                ? properties.getSeed()
+                : RandomGenerator.getDefault().nextLong();
+        log.info("Generating [{}] mock employees with seed [{}] on [{}] thread(s)", max, seed, parallelism);
+
+        final var started = System.nanoTime();
+        final var chunks = (max + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var executor = Executors.newFixedThreadPool(parallelism, daemonThreads("mock-employee-generator-"));
+        try {
+            CompletableFuture.allOf(IntStream.range(0, chunks)
+                            .mapToObj(chunk ->
+                                    CompletableFuture.runAsync(() -> generateChunk(store, seed, chunk, max), executor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+
+        final var elapsed = System.nanoTime() - started;
+        log.info(
+                "Generated [{}] mock employees in [{}] ms ([{}] employees/s)",
+                max,
+                elapsed / 1_000_000,
+                elapsed == 0 ? max : Math.round(max * NANOS_PER_SECOND / elapsed));
+    }
+
+    private void generateChunk(MockEmployeeStore store, long seed, int chunk, int max) {
+        final var worker = workers.get();
+        worker.random().setSeed(seed + chunk * CHUNK_SEED_STRIDE);
+        final var to = Math.min(max, (chunk + 1) * CHUNK_SIZE);
+        for (var i = chunk * CHUNK_SIZE; i < to; i++) {
+            final var mockEmployee = next(worker);
+            log.debug("Created employee: {}", mockEmployee);
+            store.add(mockEmployee);
+        }
+    }
+
+    private MockEmployee next(Worker worker) {
+        final var faker = worker.faker();
+        return MockEmployee.builder()
+                .id(randomUuid(worker.random()))
+                .name(faker.name().fullName())
+                .salary(faker.number().numberBetween(30000, 500000))
+                .age(faker.number().numberBetween(16, 70))
+                .title(faker.job().title())
+                .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()))
+                .build();
+    }
+
+    private Worker newWorker() {
+        final var random = new Random();
+        return new Worker(new Faker(locale, random), random);
+    }
+
+    /*
+     * Version 4 UUID drawn from the seeded generator, unlike UUID.randomUUID() which is never reproducible.
+     */
+    private static UUID randomUuid(Random random) {
+        final var mostSigBits = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        final var leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    static ThreadFactory daemonThreads(String namePrefix) {
+        final var counter = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Worker(Faker faker, Random random) {}
+}
@@ -1,14 +1,24 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChange;
 import com.reliaquest.server.model.MockEmployee;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +32,42 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final Validator validator;
+
+    private final MockEmployeeStore mockEmployeeStore;
+
+    private final EmployeeChangeFeed employeeChangeFeed;
+
+    private final MockEmployeeSnapshot mockEmployeeSnapshot;
+
+    /*
+     * Distinguishes this process's versions from those of a previous run, whose counter restarted from the same
+     * values with a different dataset.
+     */
+    private final String instanceId =
+            Long.toHexString(RandomGenerator.getDefault().nextLong());
+
+    /*
+     * Opaque tag for the dataset at the given version; changes with every create and delete.
+     */
+    public String versionTag(long version) {
+        return "\"%s-%d\"".formatted(instanceId, version);
+    }
+
+    public long getVersion() {
+        return mockEmployeeStore.version();
+    }
+
+    public Collection<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.findAll();
+    }
+
+    public MockEmployeeStore.Page getMockEmployeePage(int offset, int limit) {
+        return mockEmployeeStore.page(offset, limit);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +75,77 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        mockEmployeeStore.add(mockEmployee, added -> employeeChangeFeed.publish(EmployeeChange.Type.CREATED, added));
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var mockEmployee = mockEmployeeStore.removeByName(
+                input.getName(), removed -> employeeChangeFeed.publish(EmployeeChange.Type.DELETED, removed));
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    /*
+     * Returns the number of employees written, or empty when snapshots are disabled or the dataset is still loading,
+     * as writing then would replace a good snapshot with a partial one.
+     */
+    public OptionalInt writeSnapshot() throws IOException {
+        if (!mockEmployeeSnapshot.isEnabled() || !mockEmployeeStore.isPopulated()) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(mockEmployeeSnapshot.write(mockEmployeeStore));
+    }
+
+    @PreDestroy
+    public void writeSnapshotOnShutdown() {
+        if (!mockEmployeeSnapshot.isWriteOnShutdown()) {
+            return;
+        }
+        try {
+            writeSnapshot();
+        } catch (IOException ex) {
+            log.warn("Failed to write snapshot [{}]: {}", mockEmployeeSnapshot.getPath(), ex.getMessage());
+        }
+    }
+
+    public List<BatchItemResult<MockEmployee>> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        return processAll(inputs, this::create);
+    }
+
+    public List<BatchItemResult<Boolean>> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        return processAll(inputs, this::delete);
+    }
+
+    /*
+     * Items are validated and applied independently, so one bad item does not fail the rest of the batch.
+     */
+    private <I, O> List<BatchItemResult<O>> processAll(List<I> inputs, Function<I, O> operation) {
+        final List<BatchItemResult<O>> results = new ArrayList<>(inputs.size());
+        for (var index = 0; index < inputs.size(); index++) {
+            final var input = inputs.get(index);
+            final var violations = input == null ? null : validator.validate(input);
+            if (input == null || !violations.isEmpty()) {
+                results.add(BatchItemResult.error(index, describe(violations)));
+                continue;
+            }
+            results.add(BatchItemResult.handledWith(index, operation.apply(input)));
+        }
+        return results;
+    }
+
+    private static <I> String describe(Collection<ConstraintViolation<I>> violations) {
+        if (violations == null) {
+            return "Missing item.";
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
 }
@@ -0,0 +1,286 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.MockEmployeesProperties;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Binary snapshot of a MockEmployeeStore, so a restart restores the dataset (including mutations) instead of
+ * generating it again. The file is read through a memory mapping and decoded in parallel: records are grouped in
+ * chunks whose offsets are listed in a table at the end of the file, written last so a record never has to be
+ * revisited.
+ *
+ *   header  magic, version, employee count, chunk count, table offset
+ *   records id (2 longs), salary, age, then name, title and email as length-prefixed UTF-8
+ *   table   per chunk: record offset, record count
+ *
+ * Null strings are written with length -1 and null numbers as Integer.MIN_VALUE.
+ */
+@Slf4j
+public class MockEmployeeSnapshot {
+
+    private static final int MAGIC = 0x4D454D50; // "MEMP"
+    private static final int VERSION = 1;
+    private static final int HEADER_LENGTH = 24;
+    private static final int TABLE_ENTRY_LENGTH = Long.BYTES + Integer.BYTES;
+    private static final int CHUNK_SIZE = 10_000;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+    private static final int FIXED_RECORD_LENGTH = 2 * Long.BYTES + 2 * Integer.BYTES + 3 * Integer.BYTES;
+    private static final int NULL_LENGTH = -1;
+    private static final int NULL_NUMBER = Integer.MIN_VALUE;
+
+    private final Path path;
+    private final int parallelism;
+    private final boolean writeOnShutdown;
+
+    public MockEmployeeSnapshot(@NonNull MockEmployeesProperties properties) {
+        this.path = properties.getSnapshot();
+        this.parallelism = properties.getParallelism();
+        this.writeOnShutdown = properties.isSnapshotOnShutdown();
+    }
+
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    public boolean isWriteOnShutdown() {
+        return path != null && writeOnShutdown;
+    }
+
+    public boolean exists() {
+        return path != null && Files.isRegularFile(path);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /*
+     * Number of employees in the snapshot, read from its header, or the fallback when there is no readable snapshot.
+     * Used to presize the store so loading never rehashes it.
+     */
+    public int expectedSize(int fallback) {
+        if (!exists()) {
+            return fallback;
+        }
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var header = ByteBuffer.allocate(HEADER_LENGTH);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading until the header is complete or the file ends
+            }
+            return header.position() == HEADER_LENGTH && header.getInt(0) == MAGIC ? header.getInt(8) : fallback;
+        } catch (IOException ex) {
+            return fallback;
+        }
+    }
+
+    public int load(@NonNull MockEmployeeStore store) throws IOException {
+        final var started = System.nanoTime();
+        final ByteBuffer snapshot;
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is larger than 2 GB: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            snapshot = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (snapshot.limit() < HEADER_LENGTH || snapshot.getInt(0) != MAGIC) {
+            throw new IOException("Not a mock employee snapshot: " + path);
+        }
+        if (snapshot.getInt(4) != VERSION) {
+            throw new IOException("Unsupported snapshot version [%d]: %s".formatted(snapshot.getInt(4), path));
+        }
+        final var count = snapshot.getInt(8);
+        final var chunks = snapshot.getInt(12);
+        final var tableOffset = Math.toIntExact(snapshot.getLong(16));
+
+        final var executor = Executors.newFixedThreadPool(
+                parallelism, MockEmployeeGenerator.daemonThreads("mock-employee-snapshot-"));
+        try {
+            CompletableFuture.allOf(IntStream.range(0, chunks)
+                            .mapToObj(chunk -> CompletableFuture.runAsync(
+                                    () -> loadChunk(snapshot, tableOffset, chunk, store), executor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } catch (CompletionException ex) {
+            throw new IOException("Corrupt snapshot: " + path, ex.getCause());
+        } finally {
+            executor.shutdown();
+        }
+
+        log.info(
+                "Loaded [{}] mock employees from [{}] in [{}] ms",
+                count,
+                path,
+                (System.nanoTime() - started) / 1_000_000);
+        return count;
+    }
+
+    /*
+     * Writes to a temporary file and moves it into place, so a crash mid-write leaves the previous snapshot intact.
+     */
+    public synchronized int write(@NonNull MockEmployeeStore store) throws IOException {
+        final var started = System.nanoTime();
+        final var parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        final var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        final List<Long> chunkOffsets = new ArrayList<>();
+        final List<Integer> chunkCounts = new ArrayList<>();
+        var count = 0;
+        try (final var channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final var buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            channel.position(HEADER_LENGTH);
+            var inChunk = 0;
+            for (final var mockEmployee : store.findAll()) {
+                if (inChunk == 0) {
+                    chunkOffsets.add(channel.position() + buffer.position());
+                }
+                writeRecord(channel, buffer, mockEmployee);
+                count++;
+                if (++inChunk == CHUNK_SIZE) {
+                    chunkCounts.add(inChunk);
+                    inChunk = 0;
+                }
+            }
+            if (inChunk > 0) {
+                chunkCounts.add(inChunk);
+            }
+            drain(channel, buffer);
+
+            final var tableOffset = channel.position();
+            for (var chunk = 0; chunk < chunkOffsets.size(); chunk++) {
+                if (buffer.remaining() < TABLE_ENTRY_LENGTH) {
+                    drain(channel, buffer);
+                }
+                buffer.putLong(chunkOffsets.get(chunk)).putInt(chunkCounts.get(chunk));
+            }
+            drain(channel, buffer);
+
+            buffer.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(count)
+                    .putInt(chunkOffsets.size())
+                    .putLong(tableOffset)
+                    .flip();
+            channel.write(buffer, 0);
+            channel.force(false);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        log.info(
+                "Wrote [{}] mock employees to [{}] in [{}] ms", count, path, (System.nanoTime() - started) / 1_000_000);
+        return count;
+    }
+
+    private static void loadChunk(ByteBuffer snapshot, int tableOffset, int chunk, MockEmployeeStore store) {
+        final var entry = tableOffset + chunk * TABLE_ENTRY_LENGTH;
+        final var offset = Math.toIntExact(snapshot.getLong(entry));
+        final var count = snapshot.getInt(entry + Long.BYTES);
+        if (offset < HEADER_LENGTH || offset > tableOffset) {
+            throw new IllegalStateException("Chunk [%d] offset out of range".formatted(chunk));
+        }
+        // Each chunk decodes from its own view, so the shared mapping's position is never touched
+        final var records = snapshot.slice(offset, tableOffset - offset);
+        var scratch = new byte[256];
+        for (var i = 0; i < count; i++) {
+            final var id = new UUID(records.getLong(), records.getLong());
+            final var salary = readNumber(records);
+            final var age = readNumber(records);
+            final var name = readString(records, scratch = ensureCapacity(scratch, records));
+            final var title = readString(records, scratch = ensureCapacity(scratch, records));
+            final var email = readString(records, scratch = ensureCapacity(scratch, records));
+            store.add(new MockEmployee(id, name, salary, age, title, email));
+        }
+    }
+
+    private static void writeRecord(FileChannel channel, ByteBuffer buffer, MockEmployee mockEmployee)
+            throws IOException {
+        final var name = bytesOf(mockEmployee.getName());
+        final var title = bytesOf(mockEmployee.getTitle());
+        final var email = bytesOf(mockEmployee.getEmail());
+        final var length = FIXED_RECORD_LENGTH + lengthOf(name) + lengthOf(title) + lengthOf(email);
+        if (buffer.remaining() < length) {
+            drain(channel, buffer);
+        }
+        // Only an unusually long free-text field needs a buffer of its own
+        final var target = length <= buffer.remaining() ? buffer : ByteBuffer.allocate(length);
+        target.putLong(mockEmployee.getId().getMostSignificantBits())
+                .putLong(mockEmployee.getId().getLeastSignificantBits());
+        target.putInt(numberOf(mockEmployee.getSalary())).putInt(numberOf(mockEmployee.getAge()));
+        putString(target, name);
+        putString(target, title);
+        putString(target, email);
+        if (target != buffer) {
+            drain(channel, target);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static byte[] bytesOf(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int lengthOf(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static int numberOf(Integer value) {
+        return value == null ? NULL_NUMBER : value;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(NULL_LENGTH);
+            return;
+        }
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static Integer readNumber(ByteBuffer records) {
+        final var value = records.getInt();
+        return value == NULL_NUMBER ? null : value;
+    }
+
+    /*
+     * Grows the decode buffer to fit the next string, whose length has not been consumed yet.
+     */
+    private static byte[] ensureCapacity(byte[] scratch, ByteBuffer records) {
+        final var length = records.getInt(records.position());
+        return length <= scratch.length ? scratch : new byte[length];
+    }
+
+    private static String readString(ByteBuffer records, byte[] scratch) {
+        final var length = records.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        records.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,203 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+/*
+ * Thread-safe backing store for mock employees. Employees are indexed by id (primary) and by lower-cased name
+ * (secondary) so lookups and deletes stay O(1) regardless of dataset size.
+ */
+public class MockEmployeeStore {
+
+    private final Map<UUID, MockEmployee> employeesById;
+    private final Map<String, Set<UUID>> idsByName;
+    private final AtomicLong modifications = new AtomicLong();
+
+    private volatile Snapshot snapshot = new Snapshot(-1, new MockEmployee[0]);
+    private volatile boolean populated;
+
+    public MockEmployeeStore() {
+        this(16);
+    }
+
+    public MockEmployeeStore(int expectedSize) {
+        this.employeesById = new ConcurrentHashMap<>(expectedSize);
+        this.idsByName = new ConcurrentHashMap<>(expectedSize);
+    }
+
+    public Collection<MockEmployee> findAll() {
+        return Collections.unmodifiableCollection(employeesById.values());
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
+        return Optional.ofNullable(employeesById.get(uuid));
+    }
+
+    public int size() {
+        return employeesById.size();
+    }
+
+    /*
+     * Only meant for discarding a partially loaded dataset before anything else has seen it.
+     */
+    public void clear() {
+        employeesById.clear();
+        idsByName.clear();
+        modifications.incrementAndGet();
+    }
+
+    /*
+     * Whether the initial dataset has been fully generated or loaded; false while a lazy start is still filling it.
+     */
+    public boolean isPopulated() {
+        return populated;
+    }
+
+    public void markPopulated() {
+        populated = true;
+    }
+
+    /*
+     * Monotonic counter bumped by every add and remove. Read it before reading the data it describes: a concurrent
+     * modification then leaves the data newer than the version, never the reverse.
+     */
+    public long version() {
+        return modifications.get();
+    }
+
+    /*
+     * Returns a slice of a point-in-time ordering of the store. The ordering is rebuilt lazily after a modification,
+     * so consecutive pages are consistent with each other until the next create or delete.
+     */
+    public Page page(int offset, int limit) {
+        final var current = snapshot();
+        final var employees = current.employees();
+        final var from = Math.min(offset, employees.length);
+        final var to = (int) Math.min((long) from + limit, employees.length);
+        return new Page(
+                List.copyOf(Arrays.asList(employees).subList(from, to)), employees.length, current.modification());
+    }
+
+    public void add(@NonNull MockEmployee mockEmployee) {
+        add(mockEmployee, ignored -> {});
+    }
+
+    /*
+     * The listener runs after the employee is stored but before its name is indexed, and removes go through the name
+     * index, so listeners observe the add and a later remove of the same employee in that order. It runs outside the
+     * primary index's locks, so a listener that blocks or locks stalls no other writer.
+     */
+    public void add(@NonNull MockEmployee mockEmployee, @NonNull Consumer<MockEmployee> onAdded) {
+        Objects.requireNonNull(mockEmployee.getId(), "id");
+        final var previous = employeesById.put(mockEmployee.getId(), mockEmployee);
+        if (previous != null) {
+            unindexName(previous);
+        }
+        onAdded.accept(mockEmployee);
+        if (mockEmployee.getName() != null) {
+            idsByName.merge(normalize(mockEmployee.getName()), Set.of(mockEmployee.getId()), MockEmployeeStore::union);
+        }
+        modifications.incrementAndGet();
+    }
+
+    /*
+     * Removes one employee whose name matches ignoring case. Removal from the primary index is the linearization
+     * point, so concurrent deletes of the same name never remove more than one employee each.
+     */
+    public Optional<MockEmployee> removeByName(@NonNull String name) {
+        return removeByName(name, ignored -> {});
+    }
+
+    /*
+     * As with add, the listener runs outside the primary index's locks, once the employee is removed from it; only the
+     * caller that removed it is told.
+     */
+    public Optional<MockEmployee> removeByName(@NonNull String name, @NonNull Consumer<MockEmployee> onRemoved) {
+        final var ids = idsByName.get(normalize(name));
+        if (ids == null) {
+            return Optional.empty();
+        }
+        for (final var id : ids) {
+            final var removedHolder = new MockEmployee[1];
+            employeesById.computeIfPresent(id, (ignored, current) -> {
+                removedHolder[0] = current;
+                return null;
+            });
+            final var removed = removedHolder[0];
+            if (removed != null) {
+                onRemoved.accept(removed);
+                unindexName(removed);
+                modifications.incrementAndGet();
+                return Optional.of(removed);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Snapshot snapshot() {
+        // Read the counter before copying: a concurrent modification leaves the copy tagged stale, not the reverse
+        final var modification = modifications.get();
+        final var current = snapshot;
+        if (current.modification() == modification) {
+            return current;
+        }
+        final var rebuilt = new Snapshot(modification, employeesById.values().toArray(MockEmployee[]::new));
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private void unindexName(MockEmployee mockEmployee) {
+        if (mockEmployee.getName() == null) {
+            return;
+        }
+        idsByName.computeIfPresent(
+                normalize(mockEmployee.getName()), (ignored, ids) -> without(ids, mockEmployee.getId()));
+    }
+
+    /*
+     * Name sets are immutable and replaced inside compute/merge: almost every name is unique, and a concurrent set per
+     * name made bulk loading several times slower than the primary index alone.
+     */
+    private static Set<UUID> union(Set<UUID> ids, Set<UUID> added) {
+        if (ids.containsAll(added)) {
+            return ids;
+        }
+        final var union = new HashSet<>(ids);
+        union.addAll(added);
+        return Set.copyOf(union);
+    }
+
+    private static Set<UUID> without(Set<UUID> ids, UUID removed) {
+        if (!ids.contains(removed)) {
+            return ids;
+        }
+        if (ids.size() == 1) {
+            return null;
+        }
+        final var remaining = new HashSet<>(ids);
+        remaining.remove(removed);
+        return Set.copyOf(remaining);
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    public record Page(List<MockEmployee> employees, int total, long version) {}
+
+    private record Snapshot(long modification, MockEmployee[] employees) {}
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Applies the FaultInjector's decision to a request. This is a filter rather than a HandlerInterceptor because pacing
+ * the body needs the response to be wrapped before the controller writes to it.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final String ADMIN_PATH = "/admin/";
+
+    private final FaultInjector faultInjector;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + ADMIN_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var fault = faultInjector.sample(request);
+        if (fault == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (!sleep(fault.delay())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (fault.fails()) {
+            log.debug("Injecting [{}] for {} {}", fault.status(), request.getMethod(), request.getRequestURI());
+            response.setStatus(fault.status());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault."));
+            return;
+        }
+        if (fault.slowBody() == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        final var slowResponse = new SlowBodyResponse(response, fault.slowBody());
+        chain.doFilter(request, slowResponse);
+        slowResponse.flushWriter();
+    }
+
+    /*
+     * Returns false if interrupted, in which case the request proceeds without further faults.
+     */
+    static boolean sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
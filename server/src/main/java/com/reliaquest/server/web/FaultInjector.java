@@ -0,0 +1,142 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.FaultRule;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/*
+ * Decides the latency, error and body pacing for each request from the current FaultProfile. Every rule counts the
+ * requests it matched and draws the n-th request's fault from a generator seeded with (seed, rule, n), so a run
+ * repeated with the same seed sees the same faults in the same order per endpoint however requests interleave across
+ * them.
+ */
+@Slf4j
+@Component
+public class FaultInjector {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private volatile State state;
+
+    public FaultInjector(FaultInjectionProperties properties) {
+        this.state = State.of(FaultProfile.from(properties));
+    }
+
+    public FaultProfile getProfile() {
+        return state.profile();
+    }
+
+    /*
+     * Applies a new profile and restarts every rule's request count, so a run after an update is reproducible.
+     */
+    public void update(@NonNull FaultProfile profile) {
+        this.state = State.of(profile);
+        log.info("Updated fault injection profile: {}", profile);
+    }
+
+    /*
+     * Returns the fault for this request, or null when no enabled rule matches.
+     */
+    public Fault sample(@NonNull HttpServletRequest request) {
+        final var current = state;
+        if (!current.profile().enabled()) {
+            return null;
+        }
+
+        final var path =
+                request.getRequestURI().substring(request.getContextPath().length());
+        for (final var matcher : current.matchers()) {
+            final var rule = matcher.rule();
+            if ((rule.method() == null || rule.method().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(rule.path(), path)) {
+                final var random = forRequest(matcher.seed(), matcher.requests().incrementAndGet());
+                final var delay = rule.latency() == null ? Duration.ZERO : delayOf(rule.latency(), random);
+                final var status = random.nextDouble() < rule.errorRate() ? rule.errorStatus() : 0;
+                return new Fault(delay, status, rule.slowBody());
+            }
+        }
+        return null;
+    }
+
+    /*
+     * The request seed is mixed once more before use: seeding with seed + n directly would make request n+1 draw the
+     * same sequence as request n shifted by one value.
+     */
+    private static SplittableRandom forRequest(long seed, long request) {
+        return new SplittableRandom(new SplittableRandom(seed ^ request).nextLong());
+    }
+
+    private static Duration delayOf(FaultRule.Latency latency, RandomGenerator random) {
+        var nanos =
+                switch (latency.distribution()) {
+                    case FIXED -> latency.delay().toNanos();
+                    case UNIFORM -> {
+                        final var min = latency.min().toNanos();
+                        final var max = latency.max() == null
+                                ? min
+                                : Math.max(min, latency.max().toNanos());
+                        yield min == max ? min : random.nextLong(min, max + 1);
+                    }
+                    case LOG_NORMAL -> {
+                        final var sampled =
+                                (long) (latency.median().toNanos() * Math.exp(latency.sigma() * random.nextGaussian()));
+                        yield latency.max() == null
+                                ? sampled
+                                : Math.min(sampled, latency.max().toNanos());
+                    }
+                };
+        if (latency.spikeProbability() > 0 && random.nextDouble() < latency.spikeProbability()) {
+            nanos += latency.spike().toNanos();
+        }
+        return Duration.ofNanos(nanos);
+    }
+
+    /*
+     * A status of 0 means the request is passed on to the controller.
+     */
+    public record Fault(Duration delay, int status, FaultRule.SlowBody slowBody) {
+
+        public boolean fails() {
+            return status != 0;
+        }
+    }
+
+    /*
+     * Each rule draws from its own seed, so rules matching the n-th request of their endpoints fail independently
+     * rather than all drawing the same value.
+     */
+    private record RuleMatcher(FaultRule rule, long seed, AtomicLong requests) {}
+
+    private record State(FaultProfile profile, long seed, List<RuleMatcher> matchers) {
+
+        private static State of(FaultProfile profile) {
+            final var seed = profile.seed() != null
+                    ? profile.seed()
+                    : RandomGenerator.getDefault().nextLong();
+            if (profile.enabled()) {
+                log.info(
+                        "Injecting faults for [{}] rule(s) with seed [{}]",
+                        profile.rules().size(),
+                        seed);
+            }
+            // Rule seeds are drawn in rule order, so the same seed and rules reproduce them
+            final var ruleSeeds = new SplittableRandom(seed);
+            return new State(
+                    profile,
+                    seed,
+                    profile.rules().stream()
+                            .map(rule -> new RuleMatcher(rule, ruleSeeds.nextLong(), new AtomicLong()))
+                            .toList());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.config.RequestLimitProperties;
+import com.reliaquest.server.model.RequestLimits;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class RequestLimiter {
+
+    private static final String GLOBAL_KEY = "*";
+    private static final int MAX_IDLE_BUCKETS = 10_000;
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoTime;
+
+    private volatile RequestLimits limits;
+
+    @Autowired
+    public RequestLimiter(RequestLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RequestLimiter(RequestLimitProperties properties, LongSupplier nanoTime) {
+        this.limits = RequestLimits.from(properties);
+        this.nanoTime = nanoTime;
+    }
+
+    public RequestLimits getLimits() {
+        return limits;
+    }
+
+    /*
+     * Applies new limits and starts every client with a full bucket, so a run after an update is reproducible.
+     */
+    public void update(@NonNull RequestLimits limits) {
+        this.limits = limits;
+        buckets.clear();
+        log.info("Updated request limits: {}", limits);
+    }
+
+    /*
+     * Returns Duration.ZERO when the request may proceed, otherwise how long the client should wait.
+     */
+    public Duration tryAcquire(@NonNull HttpServletRequest request) {
+        final var current = limits;
+        if (!current.enabled()) {
+            return Duration.ZERO;
+        }
+
+        final var now = nanoTime.getAsLong();
+        if (buckets.size() > MAX_IDLE_BUCKETS) {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+        final var bucket = buckets.computeIfAbsent(keyOf(request, current), ignored -> new TokenBucket(now));
+        final var emissionInterval = (long) Math.ceil(NANOS_PER_SECOND / current.rate());
+        return Duration.ofNanos(bucket.tryAcquire(now, emissionInterval, current.burst()));
+    }
+
+    private static String keyOf(HttpServletRequest request, RequestLimits limits) {
+        return switch (limits.key()) {
+            case GLOBAL -> GLOBAL_KEY;
+            case REMOTE_ADDRESS -> request.getRemoteAddr();
+            case HEADER -> {
+                final var client = request.getHeader(limits.header());
+                yield client == null ? request.getRemoteAddr() : client;
+            }
+        };
+    }
+}
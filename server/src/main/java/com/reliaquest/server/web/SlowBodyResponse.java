@@ -0,0 +1,122 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.FaultRule;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import org.springframework.http.MediaType;
+
+/*
+ * Response whose body reaches the client in chunk-size pieces, each flushed and followed by chunk-delay. Event streams
+ * pass through unpaced: the change feed sends to each subscriber from a sender thread and drops a subscriber whose send
+ * outlasts mock.changes.send-timeout, so pacing would get healthy subscribers dropped as stalled.
+ */
+class SlowBodyResponse extends HttpServletResponseWrapper {
+
+    private final FaultRule.SlowBody slowBody;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    SlowBodyResponse(HttpServletResponse response, FaultRule.SlowBody slowBody) {
+        super(response);
+        this.slowBody = slowBody;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called for this response");
+        }
+        if (outputStream == null) {
+            outputStream = new PacedOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            final var charset = Charset.forName(getCharacterEncoding());
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        super.flushBuffer();
+    }
+
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    private boolean isEventStream() {
+        final var contentType = getContentType();
+        return contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    private final class PacedOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private int written;
+        private boolean paced = true;
+
+        private PacedOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (!paced || isEventStream()) {
+                delegate.write(bytes, offset, length);
+                return;
+            }
+            while (length > 0) {
+                final var count = Math.min(length, slowBody.chunkSize() - written);
+                delegate.write(bytes, offset, count);
+                offset += count;
+                length -= count;
+                written += count;
+                if (written == slowBody.chunkSize()) {
+                    written = 0;
+                    delegate.flush();
+                    paced = FaultInjectionFilter.sleep(slowBody.chunkDelay());
+                    if (!paced) {
+                        delegate.write(bytes, offset, length);
+                        return;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
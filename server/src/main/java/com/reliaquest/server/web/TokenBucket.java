@@ -0,0 +1,41 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Lock-free token bucket expressed as the generic cell rate algorithm: instead of a token count the bucket stores the
+ * theoretical arrival time of the next request, so acquiring a permit is a single compare-and-set on one long.
+ */
+class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /*
+     * Returns 0 when a permit was taken, otherwise the nanoseconds until one becomes available.
+     */
+    long tryAcquire(long nowNanos, long emissionIntervalNanos, int burst) {
+        final var burstToleranceNanos = emissionIntervalNanos * burst;
+        while (true) {
+            final var current = theoreticalArrival.get();
+            final var next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            final var overshoot = next - nowNanos - burstToleranceNanos;
+            if (overshoot > 0) {
+                return overshoot;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /*
+     * A bucket that has refilled completely behaves exactly like a new one and can be discarded.
+     */
+    boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
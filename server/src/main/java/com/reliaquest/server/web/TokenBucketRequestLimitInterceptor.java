@@ -0,0 +1,35 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@RequiredArgsConstructor
+public class TokenBucketRequestLimitInterceptor implements HandlerInterceptor {
+
+    private static final long MIN_RETRY_AFTER_SECONDS = 1;
+
+    private final RequestLimiter requestLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async and error dispatches belong to a request that was already admitted
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+
+        final var wait = requestLimiter.tryAcquire(request);
+        if (wait.isZero()) {
+            return true;
+        }
+
+        final var retryAfterSeconds = Math.max(MIN_RETRY_AFTER_SECONDS, (wait.toMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return false;
+    }
+}
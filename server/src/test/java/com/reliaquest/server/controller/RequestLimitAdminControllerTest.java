@@ -0,0 +1,102 @@
+package com.reliaquest.server.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.server.config.RequestLimitProperties;
+import com.reliaquest.server.web.RequestLimiter;
+import com.reliaquest.server.web.TokenBucketRequestLimitInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Tests reconfiguring the request limiter at runtime through /admin/rate-limit, with the limiting interceptor
+ * registered as ServerConfiguration registers it.
+ */
+class RequestLimitAdminControllerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        final var properties = new RequestLimitProperties();
+        properties.setBurst(1);
+        final var requestLimiter = new RequestLimiter(properties);
+        mockMvc = MockMvcBuilders.standaloneSetup(new RequestLimitAdminController(requestLimiter), new Limited())
+                .addMappedInterceptors(
+                        new String[] {"/limited"}, new TokenBucketRequestLimitInterceptor(requestLimiter))
+                .build();
+    }
+
+    @Test
+    void testUpdateAppliesLimitsAndRefillsEveryBucket() throws Exception {
+        mockMvc.perform(get("/limited")).andExpect(status().isOk());
+        mockMvc.perform(get("/limited"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        mockMvc.perform(
+                        put("/admin/rate-limit")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(
+                                        """
+                                {"enabled": true, "rate": 0.125, "burst": 2, "key": "GLOBAL", "header": "X-Client-Id"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.burst").value(2));
+        mockMvc.perform(get("/admin/rate-limit"))
+                .andExpect(jsonPath("$.data.burst").value(2));
+
+        // Starts from a full bucket of the new burst
+        mockMvc.perform(get("/limited")).andExpect(status().isOk());
+        mockMvc.perform(get("/limited")).andExpect(status().isOk());
+        mockMvc.perform(get("/limited")).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void testDisablingLetsEveryRequestThrough() throws Exception {
+        mockMvc.perform(get("/limited")).andExpect(status().isOk());
+        mockMvc.perform(
+                        put("/admin/rate-limit")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(
+                                        """
+                                {"enabled": false, "rate": 0.125, "burst": 1, "key": "GLOBAL", "header": "X-Client-Id"}
+                                """))
+                .andExpect(status().isOk());
+
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(get("/limited")).andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void testInvalidLimitsAreRejectedAndKeepTheCurrentOnes() throws Exception {
+        mockMvc.perform(
+                        put("/admin/rate-limit")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(
+                                        """
+                                {"enabled": true, "rate": 0, "burst": 0, "key": "GLOBAL", "header": "X-Client-Id"}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/admin/rate-limit"))
+                .andExpect(jsonPath("$.data.burst").value(1));
+    }
+
+    @RestController
+    static class Limited {
+
+        @GetMapping("/limited")
+        String limited() {
+            return "ok";
+        }
+    }
+}
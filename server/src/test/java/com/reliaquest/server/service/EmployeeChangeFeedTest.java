@@ -0,0 +1,225 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/*
+ * Tests the change feed over HTTP: resuming from Last-Event-ID, the reset sent once the ring has overwritten the
+ * requested change, and that a subscriber which stops reading does not hold up the others.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "mock.employees.max=5",
+            "mock.rate-limit.enabled=false",
+            "mock.changes.capacity=" + EmployeeChangeFeedTest.CAPACITY,
+            "mock.changes.heartbeat=1s",
+            "mock.changes.send-timeout=1s"
+        })
+class EmployeeChangeFeedTest {
+
+    static final int CAPACITY = 16;
+
+    private static final String CHANGES_PATH = "/api/v1/employee/changes";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeChangeFeed employeeChangeFeed;
+
+    @Test
+    void testResumesAfterLastEventId() throws Exception {
+        final String resumeFrom;
+        try (final var subscriber = subscribe(null)) {
+            assertEquals("reset", subscriber.next().name());
+            final var published = publish(3);
+            final var received = subscriber.next(3);
+            assertEquals(published, received.stream().map(Event::employeeName).toList());
+            resumeFrom = received.get(2).id();
+        }
+
+        final var missed = publish(2);
+        try (final var subscriber = subscribe(resumeFrom)) {
+            // Only the changes after the last one seen, and no reset
+            final var received = subscriber.next(2);
+            assertEquals(
+                    List.of("created", "created"),
+                    received.stream().map(Event::name).toList());
+            assertEquals(missed, received.stream().map(Event::employeeName).toList());
+        }
+    }
+
+    @Test
+    void testResetsOnceTheRingHasOverwrittenLastEventId() throws Exception {
+        final String resumeFrom;
+        try (final var subscriber = subscribe(null)) {
+            subscriber.next();
+            publish(1);
+            resumeFrom = subscriber.next().id();
+        }
+
+        publish(CAPACITY + 1);
+        try (final var subscriber = subscribe(resumeFrom)) {
+            assertEquals("reset", subscriber.next().name());
+        }
+        // An id from another server process cannot be resumed either
+        try (final var subscriber = subscribe("0-1")) {
+            assertEquals("reset", subscriber.next().name());
+        }
+    }
+
+    @Test
+    void testStalledSubscriberDoesNotHoldUpOthers() throws Exception {
+        try (final var stalled = new Socket();
+                final var subscriber = subscribe(null)) {
+            // Subscribes, then never reads, so its sends block once the socket buffers fill
+            stalled.setReceiveBufferSize(4096);
+            stalled.connect(new InetSocketAddress("localhost", port));
+            stalled.getOutputStream()
+                    .write("GET %s HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n\r\n"
+                            .formatted(CHANGES_PATH)
+                            .getBytes(StandardCharsets.US_ASCII));
+            assertEquals("reset", subscriber.next().name());
+
+            // Each change carries a large title, so the stalled socket fills within the first few batches
+            final var started = System.nanoTime();
+            final var title = "x".repeat(16 * 1024);
+            for (int batch = 0; batch < 100; batch++) {
+                final List<String> published = new ArrayList<>();
+                for (int i = 0; i < CAPACITY / 2; i++) {
+                    final var name = "Employee " + UUID.randomUUID();
+                    employeeChangeFeed.publish(EmployeeChange.Type.CREATED, employee(name, title));
+                    published.add(name);
+                }
+                assertEquals(
+                        published,
+                        subscriber.next(published.size()).stream()
+                                .map(Event::employeeName)
+                                .toList());
+            }
+            assertTrue(
+                    System.nanoTime() - started < TimeUnit.SECONDS.toNanos(20),
+                    "Healthy subscriber took too long alongside a stalled one");
+        }
+    }
+
+    private List<String> publish(final int count) {
+        final List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final var name = "Employee " + UUID.randomUUID();
+            employeeChangeFeed.publish(EmployeeChange.Type.CREATED, employee(name, "Engineer"));
+            names.add(name);
+        }
+        return names;
+    }
+
+    private Subscription subscribe(final String lastEventId) throws IOException, InterruptedException {
+        final var request = HttpRequest.newBuilder(URI.create("http://localhost:%d%s".formatted(port, CHANGES_PATH)));
+        if (lastEventId != null) {
+            request.header(MockEmployeeController.LAST_EVENT_ID_HEADER, lastEventId);
+        }
+        final var response =
+                HttpClient.newHttpClient().send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, response.statusCode());
+        return new Subscription(response.body());
+    }
+
+    private static MockEmployee employee(final String name, final String title) {
+        return new MockEmployee(UUID.randomUUID(), name, 100_000, 30, title, "employee@company.com");
+    }
+
+    private record Event(String id, String name, String data) {
+
+        String employeeName() {
+            final var start = data.indexOf("\"employee_name\":\"") + "\"employee_name\":\"".length();
+            return data.substring(start, data.indexOf('"', start));
+        }
+    }
+
+    /*
+     * Parses the event stream on a thread of its own; closing it disconnects from the server.
+     */
+    private static final class Subscription implements AutoCloseable {
+
+        private final InputStream body;
+        private final BlockingQueue<Event> events = new LinkedBlockingQueue<>();
+
+        private Subscription(final InputStream body) {
+            this.body = body;
+            final var reader = new Thread(this::read, "change-feed-test-reader");
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        Event next() throws InterruptedException {
+            final var event = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(event, "No change event within 10 seconds");
+            return event;
+        }
+
+        List<Event> next(final int count) throws InterruptedException {
+            final List<Event> received = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                received.add(next());
+            }
+            return received;
+        }
+
+        private void read() {
+            try (final var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+                String id = null;
+                String name = null;
+                final var data = new StringBuilder();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        if (name != null) {
+                            events.add(new Event(id, name, data.toString()));
+                        }
+                        id = null;
+                        name = null;
+                        data.setLength(0);
+                    } else if (line.startsWith("id:")) {
+                        id = line.substring(3).strip();
+                    } else if (line.startsWith("event:")) {
+                        name = line.substring(6).strip();
+                    } else if (line.startsWith("data:")) {
+                        data.append(line.substring(5).strip());
+                    }
+                }
+            } catch (IOException ignored) {
+                // Closed by the test
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            body.close();
+        }
+    }
+}
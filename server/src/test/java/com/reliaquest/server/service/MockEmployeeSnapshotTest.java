@@ -0,0 +1,156 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.MockEmployeesProperties;
+import com.reliaquest.server.config.RequestLimitProperties;
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.web.RequestLimiter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/*
+ * Round trips through MockEmployeeSnapshot, and the fallback to generating the dataset when a snapshot cannot be read.
+ */
+class MockEmployeeSnapshotTest {
+
+    // More than two chunks of 10,000 records, the last one partial
+    private static final int EMPLOYEES = 25_000;
+    private static final int HEADER_LENGTH = 24;
+    private static final int TABLE_ENTRY_LENGTH = Long.BYTES + Integer.BYTES;
+
+    @TempDir
+    Path directory;
+
+    private MockEmployeesProperties properties;
+
+    @BeforeEach
+    void setup() {
+        properties = new MockEmployeesProperties();
+        properties.setSnapshot(directory.resolve("mock-employees.snapshot"));
+        properties.setParallelism(4);
+        properties.setMax(5);
+        properties.setSeed(42L);
+    }
+
+    @Test
+    void testWrittenSnapshotLoadsEqualEmployees() throws IOException {
+        final var store = new MockEmployeeStore();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            store.add(new MockEmployee(
+                    UUID.randomUUID(), "Employee " + i, 50_000 + i, 20 + i % 40, "Engineer", "e" + i + "@company.com"));
+        }
+        // Null fields, multi-byte characters and a field longer than the write buffer
+        store.add(new MockEmployee(UUID.randomUUID(), null, null, null, null, null));
+        store.add(new MockEmployee(UUID.randomUUID(), "Zoë Ångström", 1, 2, "Ingénieur ☕", "zoe@company.com"));
+        store.add(new MockEmployee(UUID.randomUUID(), "Long Title", 3, 4, "x".repeat(1 << 21), "long@company.com"));
+        final var snapshot = new MockEmployeeSnapshot(properties);
+
+        assertEquals(store.size(), snapshot.write(store));
+        assertEquals(store.size(), snapshot.expectedSize(0));
+
+        final var loaded = new MockEmployeeStore();
+        assertEquals(store.size(), snapshot.load(loaded));
+        assertEquals(byId(store), byId(loaded));
+    }
+
+    @Test
+    void testChunkTableListsEveryRecord() throws IOException {
+        final var store = new MockEmployeeStore();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            store.add(new MockEmployee(UUID.randomUUID(), "Employee " + i, 1, 2, "Engineer", "e@company.com"));
+        }
+        new MockEmployeeSnapshot(properties).write(store);
+
+        final var file = ByteBuffer.wrap(Files.readAllBytes(properties.getSnapshot()));
+        assertEquals(EMPLOYEES, file.getInt(8));
+        final var chunks = file.getInt(12);
+        final var tableOffset = Math.toIntExact(file.getLong(16));
+        assertEquals(3, chunks);
+        assertEquals(file.limit(), tableOffset + chunks * TABLE_ENTRY_LENGTH);
+
+        // Chunks follow the header and each other in order, and their counts add up to every record
+        var previousOffset = (long) HEADER_LENGTH - 1;
+        var total = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            final var entry = tableOffset + chunk * TABLE_ENTRY_LENGTH;
+            final var offset = file.getLong(entry);
+            assertTrue(offset > previousOffset && offset < tableOffset);
+            previousOffset = offset;
+            total += file.getInt(entry + Long.BYTES);
+        }
+        assertEquals(HEADER_LENGTH, file.getLong(tableOffset));
+        assertEquals(EMPLOYEES, total);
+    }
+
+    @Test
+    void testTruncatedSnapshotFallsBackToGeneration() throws IOException {
+        writeSnapshotOf(1_000);
+        try (final var file = new RandomAccessFile(properties.getSnapshot().toFile(), "rw")) {
+            file.setLength(file.length() / 2);
+        }
+
+        assertThrows(IOException.class, () -> new MockEmployeeSnapshot(properties).load(new MockEmployeeStore()));
+        assertGeneratedAndSnapshotRewritten();
+    }
+
+    @Test
+    void testCorruptSnapshotFallsBackToGeneration() throws IOException {
+        writeSnapshotOf(1_000);
+        try (final var file = new RandomAccessFile(properties.getSnapshot().toFile(), "rw")) {
+            // The first name's length, after the id, salary and age of the first record
+            file.seek(HEADER_LENGTH + 2 * Long.BYTES + 2 * Integer.BYTES);
+            file.writeInt(Integer.MAX_VALUE);
+        }
+
+        assertThrows(IOException.class, () -> new MockEmployeeSnapshot(properties).load(new MockEmployeeStore()));
+        assertGeneratedAndSnapshotRewritten();
+    }
+
+    @Test
+    void testFileWithoutHeaderFallsBackToGeneration() throws IOException {
+        Files.writeString(properties.getSnapshot(), "not a snapshot");
+
+        assertEquals(7, new MockEmployeeSnapshot(properties).expectedSize(7));
+        assertGeneratedAndSnapshotRewritten();
+    }
+
+    private void writeSnapshotOf(final int employees) throws IOException {
+        final var store = new MockEmployeeStore();
+        for (int i = 0; i < employees; i++) {
+            store.add(new MockEmployee(UUID.randomUUID(), "Employee " + i, 1, 2, "Engineer", "e@company.com"));
+        }
+        new MockEmployeeSnapshot(properties).write(store);
+    }
+
+    /*
+     * Starts the store as the server does, then checks it generated the configured dataset in place of the unreadable
+     * snapshot and wrote a readable snapshot of it.
+     */
+    private void assertGeneratedAndSnapshotRewritten() throws IOException {
+        final var configuration = new ServerConfiguration(new RequestLimiter(new RequestLimitProperties()));
+        final var snapshot = new MockEmployeeSnapshot(properties);
+        final var store = configuration.mockEmployees(properties, snapshot);
+
+        assertTrue(store.isPopulated());
+        assertEquals(properties.getMax(), store.size());
+        final var reloaded = new MockEmployeeStore();
+        snapshot.load(reloaded);
+        assertEquals(byId(store), byId(reloaded));
+    }
+
+    private static Map<UUID, MockEmployee> byId(final MockEmployeeStore store) {
+        return store.findAll().stream().collect(Collectors.toMap(MockEmployee::getId, Function.identity()));
+    }
+}
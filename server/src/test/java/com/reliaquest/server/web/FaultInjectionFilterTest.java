@@ -0,0 +1,63 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.FaultRule;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/*
+ * Unit tests for how FaultInjectionFilter applies the injector's decision to a request.
+ */
+class FaultInjectionFilterTest {
+
+    private static final String ALL = "/api/v1/employee";
+
+    @Test
+    void testInjectedFailureNeverReachesTheController() throws Exception {
+        final var filter = filterWith(new FaultRule(null, "/**", null, 1, 503, null));
+        final var chain = new MockFilterChain();
+        final var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", ALL), response, chain);
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Injected fault."));
+    }
+
+    @Test
+    void testAdminRequestsAreNeverFaulted() throws Exception {
+        final var filter = filterWith(new FaultRule(null, "/**", null, 1, 503, null));
+        final var chain = new MockFilterChain();
+        final var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("PUT", "/admin/faults"), response, chain);
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void testSlowBodyWrapsTheResponse() throws Exception {
+        final var filter =
+                filterWith(new FaultRule(null, ALL, null, 0, null, new FaultRule.SlowBody(4, Duration.ofMillis(1))));
+        final var chain = new MockFilterChain();
+        final var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", ALL), response, chain);
+        assertInstanceOf(SlowBodyResponse.class, chain.getResponse());
+    }
+
+    private static FaultInjectionFilter filterWith(final FaultRule rule) {
+        final var properties = new FaultInjectionProperties();
+        properties.setEnabled(true);
+        properties.setSeed(42L);
+        properties.setRules(List.of(rule));
+        return new FaultInjectionFilter(new FaultInjector(properties), new ObjectMapper());
+    }
+}
@@ -0,0 +1,150 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.FaultRule;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/*
+ * Unit tests for FaultInjector: which rule applies to a request, and that a seeded profile replays the same faults in
+ * the same order.
+ */
+class FaultInjectorTest {
+
+    private static final String BY_ID = "/api/v1/employee/d005f39a-beb8-4390-afec-fd54e91d94ee";
+    private static final String ALL = "/api/v1/employee";
+
+    private static final FaultRule FLAKY_BY_ID = new FaultRule(
+            "GET",
+            "/api/v1/employee/*",
+            new FaultRule.Latency(
+                    FaultRule.Distribution.LOG_NORMAL,
+                    null,
+                    null,
+                    Duration.ofSeconds(2),
+                    Duration.ofMillis(20),
+                    0.5,
+                    0.1,
+                    Duration.ofSeconds(1)),
+            0.3,
+            503,
+            null);
+    private static final FaultRule SLOW_ALL = new FaultRule(
+            null,
+            ALL,
+            new FaultRule.Latency(
+                    FaultRule.Distribution.UNIFORM,
+                    null,
+                    Duration.ofMillis(50),
+                    Duration.ofMillis(150),
+                    null,
+                    0,
+                    0,
+                    null),
+            0.5,
+            null,
+            new FaultRule.SlowBody(8192, Duration.ofMillis(10)));
+
+    @Test
+    void testSameSeedInjectsSameFaultsInSameOrder() {
+        final var profile = new FaultProfile(true, 42L, List.of(FLAKY_BY_ID, SLOW_ALL));
+
+        final var first = sample(new FaultInjector(properties(profile)), BY_ID, 200);
+        final var second = sample(new FaultInjector(properties(profile)), BY_ID, 200);
+        assertEquals(first, second);
+        // Not one fault repeated: the latencies vary and some requests fail
+        assertTrue(new HashSet<>(first).size() > 100);
+        assertTrue(first.stream().anyMatch(FaultInjector.Fault::fails));
+        assertTrue(first.stream().anyMatch(fault -> !fault.fails()));
+
+        assertNotEquals(
+                first, sample(new FaultInjector(properties(new FaultProfile(true, 7L, profile.rules()))), BY_ID, 200));
+    }
+
+    @Test
+    void testRequestsToOtherRoutesDoNotShiftTheSequence() {
+        final var profile = new FaultProfile(true, 42L, List.of(FLAKY_BY_ID, SLOW_ALL));
+        final var alone = sample(new FaultInjector(properties(profile)), BY_ID, 50);
+
+        final var interleaved = new FaultInjector(properties(profile));
+        final List<FaultInjector.Fault> byId = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            interleaved.sample(new MockHttpServletRequest("GET", ALL));
+            interleaved.sample(new MockHttpServletRequest("DELETE", ALL));
+            byId.add(interleaved.sample(new MockHttpServletRequest("GET", BY_ID)));
+        }
+        assertEquals(alone, byId);
+    }
+
+    @Test
+    void testUpdateRestartsTheSequence() {
+        final var profile = new FaultProfile(true, 42L, List.of(FLAKY_BY_ID));
+        final var injector = new FaultInjector(properties(profile));
+        final var first = sample(injector, BY_ID, 20);
+
+        injector.update(profile);
+        assertEquals(first, sample(injector, BY_ID, 20));
+    }
+
+    @Test
+    void testRulesOnlyMatchTheirRoutes() {
+        final var injector = new FaultInjector(properties(new FaultProfile(true, 42L, List.of(FLAKY_BY_ID, SLOW_ALL))));
+
+        // Only GET requests below the collection match the by-id rule, which has no slow body; the collection rule
+        // takes any method
+        final var byId = injector.sample(new MockHttpServletRequest("GET", BY_ID));
+        assertNotNull(byId);
+        assertNull(byId.slowBody());
+        assertNull(injector.sample(new MockHttpServletRequest("DELETE", BY_ID)));
+        assertNull(injector.sample(new MockHttpServletRequest("GET", BY_ID + "/nested")));
+        assertNull(injector.sample(new MockHttpServletRequest("GET", "/api/v1/employees")));
+
+        final var collection = injector.sample(new MockHttpServletRequest("DELETE", ALL));
+        assertNotNull(collection);
+        assertEquals(SLOW_ALL.slowBody(), collection.slowBody());
+        assertFalse(collection.delay().compareTo(Duration.ofMillis(50)) < 0);
+        assertFalse(collection.delay().compareTo(Duration.ofMillis(150)) > 0);
+    }
+
+    @Test
+    void testContextPathIsNotPartOfTheRoute() {
+        final var injector = new FaultInjector(properties(new FaultProfile(true, 42L, List.of(SLOW_ALL))));
+        final var request = new MockHttpServletRequest("GET", "/mock" + ALL);
+        request.setContextPath("/mock");
+
+        assertNotNull(injector.sample(request));
+    }
+
+    @Test
+    void testDisabledProfileInjectsNothing() {
+        final var injector =
+                new FaultInjector(properties(new FaultProfile(false, 42L, List.of(FLAKY_BY_ID, SLOW_ALL))));
+
+        assertNull(injector.sample(new MockHttpServletRequest("GET", BY_ID)));
+        assertNull(injector.sample(new MockHttpServletRequest("GET", ALL)));
+    }
+
+    private static List<FaultInjector.Fault> sample(
+            final FaultInjector injector, final String path, final int requests) {
+        final List<FaultInjector.Fault> faults = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            faults.add(injector.sample(new MockHttpServletRequest("GET", path)));
+        }
+        return faults;
+    }
+
+    private static FaultInjectionProperties properties(final FaultProfile profile) {
+        final var properties = new FaultInjectionProperties();
+        properties.setEnabled(profile.enabled());
+        properties.setSeed(profile.seed());
+        properties.setRules(new ArrayList<>(profile.rules()));
+        return properties;
+    }
+}
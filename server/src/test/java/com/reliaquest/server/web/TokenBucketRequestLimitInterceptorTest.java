@@ -0,0 +1,103 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.RequestLimitProperties;
+import jakarta.servlet.DispatcherType;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/*
+ * Unit tests for TokenBucketRequestLimitInterceptor and the RequestLimiter behind it, on a clock the test advances.
+ */
+class TokenBucketRequestLimitInterceptorTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private RequestLimitProperties properties;
+    private TokenBucketRequestLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setup() {
+        properties = new RequestLimitProperties();
+        properties.setRate(0.25);
+        properties.setBurst(2);
+        interceptor = new TokenBucketRequestLimitInterceptor(new RequestLimiter(properties, nanos::get));
+    }
+
+    @Test
+    void testRejectionCarriesSecondsUntilTheNextPermit() {
+        assertTrue(admit());
+        assertTrue(admit());
+
+        // One request every four seconds, so the next permit is four seconds away
+        final var response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("4", response.getHeader(HttpHeaders.RETRY_AFTER));
+
+        // Partial seconds round up
+        advance(Duration.ofMillis(2_500));
+        final var later = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), later, null));
+        assertEquals("2", later.getHeader(HttpHeaders.RETRY_AFTER));
+
+        advance(Duration.ofMillis(1_500));
+        assertTrue(admit());
+    }
+
+    @Test
+    void testRetryAfterIsAtLeastOneSecond() {
+        // Permits a tenth of a microsecond apart, so the wait rounds to no whole milliseconds
+        properties.setRate(10_000_000);
+        properties.setBurst(1);
+        interceptor = new TokenBucketRequestLimitInterceptor(new RequestLimiter(properties, nanos::get));
+        assertTrue(admit());
+
+        final var response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void testOnlyRequestDispatchesAreCounted() {
+        assertTrue(admit());
+
+        // The async dispatch of an admitted request takes no second permit
+        final var asyncDispatch = new MockHttpServletRequest();
+        asyncDispatch.setDispatcherType(DispatcherType.ASYNC);
+        assertTrue(interceptor.preHandle(asyncDispatch, new MockHttpServletResponse(), null));
+        assertTrue(admit());
+        assertFalse(admit());
+    }
+
+    @Test
+    void testClientsGetTheirOwnBucketsWhenKeyedByHeader() {
+        properties.setKey(RequestLimitProperties.KeyStrategy.HEADER);
+        properties.setBurst(1);
+        interceptor = new TokenBucketRequestLimitInterceptor(new RequestLimiter(properties, nanos::get));
+
+        assertTrue(admit("first"));
+        assertFalse(admit("first"));
+        assertTrue(admit("second"));
+    }
+
+    private boolean admit() {
+        return interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null);
+    }
+
+    private boolean admit(final String client) {
+        final var request = new MockHttpServletRequest();
+        request.addHeader(properties.getHeader(), client);
+        return interceptor.preHandle(request, new MockHttpServletResponse(), null);
+    }
+
+    private void advance(final Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
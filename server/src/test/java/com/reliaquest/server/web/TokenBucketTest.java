@@ -0,0 +1,65 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/*
+ * Unit tests for the burst and refill arithmetic of TokenBucket, on a clock the test advances by hand.
+ */
+class TokenBucketTest {
+
+    private static final long INTERVAL = 1_000;
+    private static final int BURST = 3;
+
+    @Test
+    void testBurstIsAdmittedBackToBack() {
+        final var bucket = new TokenBucket(0);
+
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(0, bucket.tryAcquire(0, INTERVAL, BURST));
+        }
+        // The next permit is one emission interval away
+        assertEquals(INTERVAL, bucket.tryAcquire(0, INTERVAL, BURST));
+        assertEquals(INTERVAL - 400, bucket.tryAcquire(400, INTERVAL, BURST));
+    }
+
+    @Test
+    void testPermitsRefillAtTheRate() {
+        final var bucket = new TokenBucket(0);
+        for (int i = 0; i < BURST; i++) {
+            bucket.tryAcquire(0, INTERVAL, BURST);
+        }
+
+        assertEquals(0, bucket.tryAcquire(INTERVAL, INTERVAL, BURST));
+        assertEquals(INTERVAL, bucket.tryAcquire(INTERVAL, INTERVAL, BURST));
+
+        // Two intervals refill two permits, not a whole burst
+        final var now = 3 * INTERVAL;
+        assertEquals(0, bucket.tryAcquire(now, INTERVAL, BURST));
+        assertEquals(0, bucket.tryAcquire(now, INTERVAL, BURST));
+        assertEquals(INTERVAL, bucket.tryAcquire(now, INTERVAL, BURST));
+    }
+
+    @Test
+    void testIdleTimeNeverBanksMoreThanABurst() {
+        final var bucket = new TokenBucket(0);
+        final var now = 100 * INTERVAL;
+
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(0, bucket.tryAcquire(now, INTERVAL, BURST));
+        }
+        assertTrue(bucket.tryAcquire(now, INTERVAL, BURST) > 0);
+    }
+
+    @Test
+    void testBucketIsFullOnceItHasRefilled() {
+        final var bucket = new TokenBucket(0);
+        assertTrue(bucket.isFull(0));
+
+        bucket.tryAcquire(0, INTERVAL, BURST);
+        bucket.tryAcquire(0, INTERVAL, BURST);
+        assertFalse(bucket.isFull(INTERVAL));
+        assertTrue(bucket.isFull(2 * INTERVAL));
+    }
+}